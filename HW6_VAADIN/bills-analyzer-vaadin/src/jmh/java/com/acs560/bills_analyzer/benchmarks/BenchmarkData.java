@@ -0,0 +1,54 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+
+/**
+ * Deterministic bill data for the benchmarks
+ */
+final class BenchmarkData {
+
+	static final List<Company> COMPANIES = List.of(
+			new Company(1, "Amazon"),
+			new Company(2, "Walmart"),
+			new Company(3, "IKEA"),
+			new Company(4, "Target"),
+			new Company(5, "Best Buy"));
+	
+	static final List<String> CITIES = List.of("New York", "Los Angeles", "Chicago", "Houston", "Phoenix",
+			"San Diego", "Dallas", "San Francisco", "Denver", "Seattle", "Miami", "Atlanta", "Boston");
+	
+	/** The first year of the generated bills, after the years of the seed data */
+	static final int FIRST_YEAR = 3000;
+	
+	private BenchmarkData() {
+	}
+	
+	/**
+	 * Generate distinct bills, one per company and month from FIRST_YEAR on, in random order
+	 * @param size - the number of bills
+	 * @return - the bills
+	 */
+	static List<Bill> bills(int size) {
+		Random random = new Random(42);
+		List<Bill> bills = new ArrayList<>(size);
+		
+		for (int i = 0; i < size; i++) {
+			int company = i % COMPANIES.size();
+			int month = i / COMPANIES.size() % 12 + 1;
+			int year = FIRST_YEAR + i / (COMPANIES.size() * 12);
+			
+			bills.add(new Bill(month, year, COMPANIES.get(company), CITIES.get(random.nextInt(CITIES.size())),
+					Math.round(random.nextDouble() * 500_000) / 100.0));
+		}
+		
+		Collections.shuffle(bills, random);
+		
+		return bills;
+	}
+}
@@ -0,0 +1,57 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.acs560.bills_analyzer.models.Bill;
+
+/**
+ * The in-memory filtering BillsView.handleFilter did on every keystroke before the search
+ * moved to the database, the baseline for BillsRepositoryBenchmark.searchByCompanyPrefix.
+ * The bills are those a call to BillsService.getBills returned
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BillFilterBenchmark {
+
+	@Param({"1000", "100000"})
+	private int size;
+	
+	@Param({"IKEA", "San", "2021"})
+	private String filter;
+	
+	private List<Bill> bills;
+	
+	@Setup
+	public void setUp() {
+		bills = BenchmarkData.bills(size);
+	}
+	
+	@Benchmark
+	public List<Bill> filterAllFields() {
+		return bills.stream()
+				.filter(bill -> bill.getCompany().getName().contains(filter) ||
+						bill.getCity().contains(filter) ||
+						String.valueOf(bill.getAmount()).contains(filter) ||
+						String.valueOf(bill.getMonth()).contains(filter) ||
+						String.valueOf(bill.getYear()).contains(filter))
+				.collect(Collectors.toList());
+	}
+}
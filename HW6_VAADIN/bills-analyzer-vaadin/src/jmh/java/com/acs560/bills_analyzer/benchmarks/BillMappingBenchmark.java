@@ -0,0 +1,53 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.acs560.bills_analyzer.entities.BillEntity;
+import com.acs560.bills_analyzer.models.Bill;
+
+/**
+ * The BillEntity to Bill mapping of the reads and the Bill to BillEntity mapping of the writes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BillMappingBenchmark {
+
+	@Param({"1000", "100000"})
+	private int size;
+	
+	private List<Bill> bills;
+	private List<BillEntity> entities;
+	
+	@Setup
+	public void setUp() {
+		bills = BenchmarkData.bills(size);
+		entities = bills.stream().map(BillEntity::new).toList();
+	}
+	
+	@Benchmark
+	public List<Bill> toBills() {
+		return entities.stream().map(Bill::new).toList();
+	}
+	
+	@Benchmark
+	public List<BillEntity> toEntities() {
+		return bills.stream().map(BillEntity::new).toList();
+	}
+}
@@ -0,0 +1,82 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.services.impl.BillOrderUtil;
+
+/**
+ * The sort of BillsServiceImpl.from, which orders every list result by Bill.compareTo.
+ * The legacy benchmark is the comparator chain compareTo built on every comparison before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BillSortBenchmark {
+
+	@Param({"1000", "100000"})
+	private int size;
+	
+	private static final Comparator<Bill> LEGACY_ORDER = (bill, o) -> Comparator.comparing(Bill::getYear)
+			.thenComparing(Bill::getMonth)
+			.thenComparing(b -> b.getCompany().compareTo(o.getCompany()))
+			.compare(bill, o);
+	
+	private List<Bill> bills;
+	private List<Bill> sortedBills;
+	
+	@Setup
+	public void setUp() {
+		bills = BenchmarkData.bills(size);
+		sortedBills = new ArrayList<>(bills);
+		sortedBills.sort(Bill.ORDER);
+	}
+	
+	@Benchmark
+	public List<Bill> sortByLegacyComparator() {
+		List<Bill> sorted = new ArrayList<>(bills);
+		sorted.sort(LEGACY_ORDER);
+		return sorted;
+	}
+	
+	@Benchmark
+	public List<Bill> sortByCompareTo() {
+		List<Bill> sorted = new ArrayList<>(bills);
+		Collections.sort(sorted);
+		return sorted;
+	}
+	
+	@Benchmark
+	public List<Bill> sortByPackedKeys() {
+		List<Bill> sorted = new ArrayList<>(bills);
+		BillOrderUtil.sort(sorted);
+		return sorted;
+	}
+	
+	/**
+	 * The check of from() when the database returned the bills in order
+	 */
+	@Benchmark
+	public boolean checkSortedByDatabase() {
+		return BillOrderUtil.isSorted(sortedBills);
+	}
+}
@@ -0,0 +1,114 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import com.acs560.bills_analyzer.BillsAnalyzerApplication;
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.BillStatistics;
+import com.acs560.bills_analyzer.repositories.BillsRepository;
+import com.acs560.bills_analyzer.requests.BillSearchRequest;
+import com.acs560.bills_analyzer.services.BillsAnalysisService;
+import com.acs560.bills_analyzer.services.BillsService;
+import com.acs560.bills_analyzer.services.impl.BillsAnalysisServiceImpl;
+import com.acs560.bills_analyzer.services.impl.BillsServiceImpl;
+
+/**
+ * The repository queries behind the grid and the analysis, against the embedded H2
+ * of the test configuration seeded with the given number of bills.
+ * The uncached service implementations are used so that every call reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class BillsRepositoryBenchmark {
+
+	private static final int SEED_BATCH = 5000;
+	private static final PageRequest FIRST_PAGE = PageRequest.of(0, 50);
+	
+	@Param({"10000", "100000"})
+	private int rows;
+	
+	private ConfigurableApplicationContext context;
+	private BillsService billsService;
+	private BillsAnalysisService billsAnalysisService;
+	private BillsRepository billsRepository;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(BillsAnalyzerApplication.class)
+				.web(WebApplicationType.SERVLET)
+				.properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN")
+				.run();
+		billsService = context.getBean(BillsServiceImpl.class);
+		billsAnalysisService = context.getBean(BillsAnalysisServiceImpl.class);
+		billsRepository = context.getBean(BillsRepository.class);
+		
+		List<Bill> bills = BenchmarkData.bills(rows);
+		
+		for (int from = 0; from < bills.size(); from += SEED_BATCH) {
+			billsService.addAll(bills.subList(from, Math.min(from + SEED_BATCH, bills.size())));
+		}
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public List<Bill> firstPage() {
+		return billsService.getBills(FIRST_PAGE);
+	}
+	
+	@Benchmark
+	public List<Bill> searchByCompanyPrefix() {
+		return billsService.searchBills(new BillSearchRequest("IKEA", null, null, null, null, null), FIRST_PAGE);
+	}
+	
+	@Benchmark
+	public List<Bill> searchByCityAndAmount() {
+		return billsService.searchBills(new BillSearchRequest(null, "San", null, null, 1000.0, 2000.0), FIRST_PAGE);
+	}
+	
+	@Benchmark
+	public List<Bill> getBillsByCompanyAndMonthRange() {
+		return billsService.getBills(3, 6, 1);
+	}
+	
+	@Benchmark
+	public Object findById() {
+		return billsRepository.findAllByIdBillingMonthAndIdBillingYearAndIdCompanyId(6, BenchmarkData.FIRST_YEAR, 3);
+	}
+	
+	@Benchmark
+	public double calculateAverage() {
+		return billsAnalysisService.calculateAverage(3, 6, 2);
+	}
+	
+	@Benchmark
+	public BillStatistics calculateStatistics() {
+		return billsAnalysisService.calculateStatistics(6, 2, BenchmarkData.FIRST_YEAR, 9999);
+	}
+}
@@ -0,0 +1,87 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.acs560.bills_analyzer.columnar.AmountSum;
+import com.acs560.bills_analyzer.columnar.BillColumns;
+import com.acs560.bills_analyzer.models.BillStatistics;
+import com.acs560.bills_analyzer.models.MonthRange;
+import com.acs560.bills_analyzer.services.impl.BillStatisticsAccumulator;
+
+/**
+ * The scaling of the columnar aggregations with the fork-join parallelism,
+ * over synthetic bills of 5 companies and 20 years
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ColumnarAggregationBenchmark {
+
+	@Param({"10000000"})
+	private int rows;
+	
+	@Param({"1", "2", "4", "8"})
+	private int parallelism;
+	
+	private BillColumns columns;
+	private ForkJoinPool pool;
+	private int monthMask;
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		columns = new BillColumns(rows);
+		
+		for (int i = 0; i < rows; i++) {
+			columns.append(random.nextInt(12) + 1, 2000 + random.nextInt(20), random.nextInt(5) + 1,
+					"Fort Wayne", Math.round(random.nextDouble() * 500_000) / 100.0);
+		}
+		
+		pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+		monthMask = MonthRange.of(6, 2).getMask();
+	}
+	
+	@TearDown
+	public void tearDown() {
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+	
+	@Benchmark
+	public OptionalDouble averageForMonthRange() {
+		return columns.aggregate(null, monthMask, Integer.MIN_VALUE, Integer.MAX_VALUE, 
+				AmountSum::new, AmountSum::merge, pool).average();
+	}
+	
+	@Benchmark
+	public OptionalDouble averageForCompany() {
+		return columns.aggregate(3, monthMask, Integer.MIN_VALUE, Integer.MAX_VALUE, 
+				AmountSum::new, AmountSum::merge, pool).average();
+	}
+	
+	@Benchmark
+	public BillStatistics statistics() {
+		return columns.aggregate(null, monthMask, 2005, 2015, 
+				BillStatisticsAccumulator::new, BillStatisticsAccumulator::merge, pool).toStatistics();
+	}
+}
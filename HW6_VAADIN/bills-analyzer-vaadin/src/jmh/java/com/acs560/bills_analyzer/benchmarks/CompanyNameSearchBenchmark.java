@@ -0,0 +1,99 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.acs560.bills_analyzer.BillsAnalyzerApplication;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.search.CompanyNameIndex;
+import com.acs560.bills_analyzer.services.CompaniesService;
+import com.acs560.bills_analyzer.services.impl.CompaniesServiceImpl;
+
+/**
+ * Company name contains searches, as typed in the companies view filter, 
+ * answered by the trigram name index or by the LIKE '%filter%' query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CompanyNameSearchBenchmark {
+
+	private static final String[] WORDS = {"north", "south", "global", "city", "metro", "star", "blue", "green",
+			"prime", "united", "pacific", "atlantic", "river", "summit", "valley", "pioneer"};
+	private static final String[] KINDS = {"Foods", "Motors", "Energy", "Health", "Supply", "Logistics", 
+			"Electric", "Software", "Markets", "Outfitters"};
+	private static final String[] SUFFIXES = {"Inc", "LLC", "Co", "Group", "Corp"};
+	
+	@Param({"50000"})
+	private int companies;
+	
+	@Param({"true", "false"})
+	private boolean nameIndex;
+	
+	private ConfigurableApplicationContext context;
+	private CompaniesService companiesService;
+	private String[] filters;
+	private int next;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(BillsAnalyzerApplication.class)
+				.web(WebApplicationType.SERVLET)
+				.properties("server.port=0", "logging.level.root=WARN",
+						"bills.companies.name-index.enabled=" + nameIndex)
+				.run();
+		companiesService = context.getBean(CompaniesServiceImpl.class);
+		
+		Random random = new Random(42);
+		List<Object[]> names = new ArrayList<>(companies);
+		
+		for (int i = 0; i < companies; i++) {
+			names.add(new Object[] {WORDS[random.nextInt(WORDS.length)] + " " + KINDS[random.nextInt(KINDS.length)] 
+					+ " " + i + " " + SUFFIXES[random.nextInt(SUFFIXES.length)]});
+		}
+		context.getBean(JdbcTemplate.class).batchUpdate("INSERT INTO companies (name) VALUES (?)", names);
+		
+		if (nameIndex) {
+			context.getBean(CompanyNameIndex.class).load();
+		}
+		
+		// Filters of more than 2 characters, from common words to a single company
+		filters = new String[] {"electric", "pacific mot", "star", "12345", "ogistics 4", "summit", "nomatch"};
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public List<Company> search() {
+		String filter = filters[next];
+		next = (next + 1) % filters.length;
+		
+		return companiesService.getCompanies(filter);
+	}
+}
@@ -0,0 +1,174 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import com.acs560.bills_analyzer.BillsAnalyzerApplication;
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.requests.BillSearchRequest;
+import com.acs560.bills_analyzer.services.BillsAnalysisService;
+import com.acs560.bills_analyzer.services.BillsService;
+import com.acs560.bills_analyzer.services.impl.BillsAnalysisServiceImpl;
+import com.acs560.bills_analyzer.services.impl.BillsServiceImpl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Concurrent sessions calling the service layer through a connection pool of the given size.
+ * A round is one view of the bills and analysis per session, all sessions at once.
+ * The pool saturates at the number of sessions from which the round time grows with the sessions
+ * and the connection acquire time, reported by JMH as the secondary results of the round, stops being negligible.
+ * The uncached service implementations are used so that every call takes a connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ConnectionPoolLoadBenchmark {
+
+	private static final int SEED_BATCH = 5000;
+	private static final PageRequest FIRST_PAGE = PageRequest.of(0, 50);
+	private static final String POOL = "bills-pool";
+	
+	@Param({"50000"})
+	private int rows;
+	
+	@Param({"10"})
+	private int poolSize;
+	
+	@Param({"1", "8", "32", "128"})
+	private int sessions;
+	
+	private ConfigurableApplicationContext context;
+	private BillsService billsService;
+	private BillsAnalysisService billsAnalysisService;
+	private Timer acquire;
+	private Counter timeouts;
+	private ExecutorService executor;
+	private List<Callable<Integer>> round;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(BillsAnalyzerApplication.class)
+				.web(WebApplicationType.SERVLET)
+				.properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN",
+						"spring.datasource.hikari.pool-name=" + POOL,
+						"spring.datasource.hikari.maximum-pool-size=" + poolSize,
+						"spring.datasource.hikari.minimum-idle=" + poolSize)
+				.run();
+		billsService = context.getBean(BillsServiceImpl.class);
+		billsAnalysisService = context.getBean(BillsAnalysisServiceImpl.class);
+		
+		var registry = context.getBean(MeterRegistry.class);
+		acquire = registry.get("hikaricp.connections.acquire").tag("pool", POOL).timer();
+		timeouts = registry.get("hikaricp.connections.timeout").tag("pool", POOL).counter();
+		
+		List<Bill> bills = BenchmarkData.bills(rows);
+		
+		for (int from = 0; from < bills.size(); from += SEED_BATCH) {
+			billsService.addAll(bills.subList(from, Math.min(from + SEED_BATCH, bills.size())));
+		}
+		
+		executor = Executors.newFixedThreadPool(sessions);
+		round = new ArrayList<>(sessions);
+		
+		for (int i = 0; i < sessions; i++) {
+			int companyId = i % BenchmarkData.COMPANIES.size() + 1;
+			int month = i % 12 + 1;
+			round.add(() -> session(companyId, month));
+		}
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executor.shutdownNow();
+		context.close();
+	}
+	
+	@Benchmark
+	public int round(PoolCounters counters) throws InterruptedException, ExecutionException {
+		long acquires = acquire.count();
+		double acquireMillis = acquire.totalTime(TimeUnit.MILLISECONDS);
+		double timedOut = timeouts.count();
+		int read = 0;
+		
+		for (Future<Integer> session : executor.invokeAll(round)) {
+			read += session.get();
+		}
+		
+		counters.acquires += acquire.count() - acquires;
+		counters.acquireMillis += acquire.totalTime(TimeUnit.MILLISECONDS) - acquireMillis;
+		counters.maxAcquireMillis = Math.max(counters.maxAcquireMillis, acquire.max(TimeUnit.MILLISECONDS));
+		counters.timeouts += (long) (timeouts.count() - timedOut);
+		
+		return read;
+	}
+	
+	/**
+	 * The connection acquisitions of the rounds of an iteration, reported next to the round time
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class PoolCounters {
+		
+		public long acquires;
+		public double acquireMillis;
+		public double maxAcquireMillis;
+		public long timeouts;
+		
+		@Setup(Level.Iteration)
+		public void clean() {
+			acquires = 0;
+			acquireMillis = 0;
+			maxAcquireMillis = 0;
+			timeouts = 0;
+		}
+		
+		public double meanAcquireMillis() {
+			return acquires == 0 ? 0 : acquireMillis / acquires;
+		}
+	}
+	
+	/**
+	 * The reads of a session opening the bills view and the analysis of a company
+	 */
+	private int session(int companyId, int month) {
+		int read = billsService.getBills(FIRST_PAGE).size();
+		read += billsService.searchBills(new BillSearchRequest("IKEA", null, null, null, null, null), FIRST_PAGE)
+				.size();
+		read += billsService.getBills(companyId, month, 1).size();
+		read += billsAnalysisService.calculateStatistics(companyId, month, 2, BenchmarkData.FIRST_YEAR, 9999)
+				.getCount();
+		
+		return read;
+	}
+}
@@ -0,0 +1,40 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.acs560.bills_analyzer.services.impl.MonthRangeUtil;
+
+/**
+ * The month range of every analysis query
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonthRangeUtilBenchmark {
+
+	@Param({"1", "6", "12"})
+	private int month;
+	
+	@Param({"0", "2", "5"})
+	private int range;
+	
+	@Benchmark
+	public Set<Integer> getRange() {
+		return MonthRangeUtil.getRange(month, range);
+	}
+}
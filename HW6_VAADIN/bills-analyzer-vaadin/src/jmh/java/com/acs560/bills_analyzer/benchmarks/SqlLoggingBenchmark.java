@@ -0,0 +1,106 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.acs560.bills_analyzer.BillsAnalyzerApplication;
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.services.BillsService;
+import com.acs560.bills_analyzer.services.impl.BillsServiceImpl;
+
+/**
+ * Throughput of the service layer, from several threads, with the SQL logged:
+ * <ul>
+ * <li>off - not logged</li>
+ * <li>show-sql - the former spring.jpa.show-sql, written to System.out by the request threads</li>
+ * <li>async - every statement and its bind parameters logged by org.hibernate.SQL and 
+ * org.hibernate.orm.jdbc.bind through the async appender</li>
+ * <li>sampled - one in 100 statements with their bind parameters logged through the async appender</li>
+ * </ul>
+ * The standard output is redirected to target/sql-logging-benchmark.log during a trial.
+ * The uncached service implementation is used so that every call runs its query, a single bill lookup
+ * so that the cost of logging the statement is not hidden by the cost of the query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Threads(4)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SqlLoggingBenchmark {
+
+	@Param({"10000"})
+	private int rows;
+	
+	@Param({"off", "show-sql", "async", "sampled"})
+	private String sqlLogging;
+	
+	private ConfigurableApplicationContext context;
+	private BillsService billsService;
+	private PrintStream stdout;
+	private PrintStream log;
+	private int years;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws FileNotFoundException {
+		stdout = System.out;
+		log = new PrintStream(new FileOutputStream("target/sql-logging-benchmark.log", true), true);
+		System.setOut(log);
+		
+		boolean logged = sqlLogging.equals("async") || sqlLogging.equals("sampled");
+		context = new SpringApplicationBuilder(BillsAnalyzerApplication.class)
+				.web(WebApplicationType.SERVLET)
+				.properties("server.port=0", "logging.level.root=WARN",
+						"spring.jpa.show-sql=" + sqlLogging.equals("show-sql"),
+						"logging.level.org.hibernate.SQL=" + (logged ? "DEBUG" : "INFO"),
+						"logging.level.org.hibernate.orm.jdbc.bind=" + (logged ? "TRACE" : "INFO"),
+						"bills.logging.sql-sample-rate=" + (sqlLogging.equals("sampled") ? 100 : 1))
+				.run();
+		billsService = context.getBean(BillsServiceImpl.class);
+		
+		List<Bill> bills = BenchmarkData.bills(rows);
+		billsService.addAll(bills);
+		years = rows / (BenchmarkData.COMPANIES.size() * 12);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+		System.setOut(stdout);
+		log.close();
+	}
+	
+	@Benchmark
+	public Optional<Bill> getBill() {
+		var random = ThreadLocalRandom.current();
+		int companyId = random.nextInt(BenchmarkData.COMPANIES.size()) + 1;
+		int month = random.nextInt(12) + 1;
+		int year = BenchmarkData.FIRST_YEAR + random.nextInt(years);
+		
+		return billsService.getBill(companyId, month, year);
+	}
+}
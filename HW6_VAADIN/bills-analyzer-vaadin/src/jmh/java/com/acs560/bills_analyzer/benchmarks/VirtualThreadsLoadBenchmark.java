@@ -0,0 +1,159 @@
+package com.acs560.bills_analyzer.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+
+import com.acs560.bills_analyzer.BillsAnalyzerApplication;
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.services.BillsAnalysisService;
+import com.acs560.bills_analyzer.services.impl.BillsAnalysisServiceImpl;
+import com.acs560.bills_analyzer.services.impl.BillsServiceImpl;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Concurrent clients, one per benchmark thread, each sending a request whose handling blocks on
+ * an uncached analysis query, served by Tomcat on platform or on virtual threads.
+ * Reports the throughput and, with the sample time mode, the p99 latency of a request.
+ * The virtual threads need Java 21, run with -Pjava21,bench. Virtual threads only pay off once
+ * the clients, set with -t, outnumber server.tomcat.threads.max, set with -p tomcatThreads,
+ * so the 64 clients are 4 times the 16 platform request threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Threads(64)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class VirtualThreadsLoadBenchmark {
+
+	private static final int SEED_BATCH = 5000;
+	private static final String PATH = "/load/analysis";
+
+	@Param({"20000"})
+	private int rows;
+
+	@Param({"platform", "virtual"})
+	private String threading;
+
+	@Param({"16"})
+	private int tomcatThreads;
+
+	private ConfigurableApplicationContext context;
+	private HttpClient client;
+	private String baseUri;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		if (threading.equals("virtual") && Runtime.version().feature() < 21) {
+			throw new IllegalStateException("Virtual threads need Java 21, run with -Pjava21,bench or -p threading=platform");
+		}
+
+		context = new SpringApplicationBuilder(BillsAnalyzerApplication.class, LoadEndpoint.class)
+				.web(WebApplicationType.SERVLET)
+				.properties("server.port=0", "logging.level.root=WARN",
+						"spring.threads.virtual.enabled=" + threading.equals("virtual"),
+						"server.tomcat.threads.max=" + tomcatThreads)
+				.run();
+
+		BillsServiceImpl billsService = context.getBean(BillsServiceImpl.class);
+		List<Bill> bills = BenchmarkData.bills(rows);
+
+		for (int from = 0; from < bills.size(); from += SEED_BATCH) {
+			billsService.addAll(bills.subList(from, Math.min(from + SEED_BATCH, bills.size())));
+		}
+
+		int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+		baseUri = "http://localhost:" + port + PATH;
+		client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public String request() throws IOException, InterruptedException {
+		var random = ThreadLocalRandom.current();
+		var request = HttpRequest.newBuilder(URI.create(baseUri + "?companyId="
+				+ (random.nextInt(BenchmarkData.COMPANIES.size()) + 1) + "&month=" + (random.nextInt(12) + 1)))
+				.build();
+		var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Status " + response.statusCode() + ": " + response.body());
+		}
+		return response.body();
+	}
+
+	/**
+	 * The endpoint of the load, a servlet calling the analysis service on the request thread,
+	 * outside of the security of the views. Not a component, so only the contexts of this benchmark have it.
+	 */
+	public static class LoadEndpoint {
+
+		@Bean
+		public ServletRegistrationBean<HttpServlet> loadServlet(BillsAnalysisServiceImpl billsAnalysisService) {
+			return new ServletRegistrationBean<>(new AnalysisServlet(billsAnalysisService), PATH);
+		}
+
+		@Bean
+		public WebSecurityCustomizer loadSecurity() {
+			return web -> web.ignoring().requestMatchers(PATH);
+		}
+	}
+
+	private static class AnalysisServlet extends HttpServlet {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient BillsAnalysisService billsAnalysisService;
+
+		private AnalysisServlet(BillsAnalysisService billsAnalysisService) {
+			this.billsAnalysisService = billsAnalysisService;
+		}
+
+		@Override
+		protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+			int companyId = Integer.parseInt(request.getParameter("companyId"));
+			int month = Integer.parseInt(request.getParameter("month"));
+			var statistics = billsAnalysisService.calculateStatistics(companyId, month, 2,
+					BenchmarkData.FIRST_YEAR, 9999);
+
+			response.setContentType("text/plain");
+			response.getWriter().print(statistics.getCount());
+		}
+	}
+}
@@ -1 +0,0 @@
-export {}
\ No newline at end of file
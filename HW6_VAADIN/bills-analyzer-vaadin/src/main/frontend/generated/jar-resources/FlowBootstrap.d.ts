@@ -1 +0,0 @@
-export const init: (appInitResponse: any) => void;
@@ -1 +0,0 @@
-import "./copilot-B_o-uLE6.js";
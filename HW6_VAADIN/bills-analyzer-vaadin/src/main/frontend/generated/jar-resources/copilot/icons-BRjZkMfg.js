@@ -1,368 +0,0 @@
-import { U as o } from "./copilot-B_o-uLE6.js";
-const r = {
-  popup: o`
-    <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-      <path
-        d="M14 6.00001V2.00001M14 2.00001H10M14 2.00001L8 8M6.66667 2H5.2C4.07989 2 3.51984 2 3.09202 2.21799C2.71569 2.40973 2.40973 2.71569 2.21799 3.09202C2 3.51984 2 4.07989 2 5.2V10.8C2 11.9201 2 12.4801 2.21799 12.908C2.40973 13.2843 2.71569 13.5903 3.09202 13.782C3.51984 14 4.07989 14 5.2 14H10.8C11.9201 14 12.4801 14 12.908 13.782C13.2843 13.5903 13.5903 13.2843 13.782 12.908C14 12.4801 14 11.9201 14 10.8V9.33333"
-        stroke="currentColor"
-        stroke-linecap="round"
-        stroke-linejoin="round" />
-    </svg>
-  `,
-  dock: o`
-    <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-      <path d="M6 12L10 8L6 4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round" />
-    </svg>
-  `,
-  close: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M17 7L7 17M7 7L17 17" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  minus: o`
-    <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-      <path d="M3.33333 8H12.6667" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round" />
-    </svg>
-  `,
-  plus: o`
-    <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-      <path
-        d="M7.99999 3.33334V12.6667M3.33333 8.00001H12.6667"
-        stroke="currentColor"
-        stroke-linecap="round"
-        stroke-linejoin="round" />
-    </svg>
-  `,
-  arrowLeft: o`
-    <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-      <path
-        d="M13.3333 8H2.66667M2.66667 8L6.66667 12M2.66667 8L6.66667 4"
-        stroke="currentColor"
-        stroke-linecap="round"
-        stroke-linejoin="round" />
-    </svg>
-  `,
-  chevronLeft: o`
-    <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-      <path d="M10 12L6 8L10 4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round" />
-    </svg>
-  `,
-  chevronRight: o`
-    <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-      <path d="M6 12L10 8L6 4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round" />
-    </svg>
-  `,
-  chevronDown: o`
-        <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-            <path d="M4 6L8 10L12 6" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-        </svg>
-    `,
-  chevronUp: o`
-        <svg width="100%" height="100%" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
-            <path d="M18 15L12 9L6 15" stroke="currentColor" stroke-width="1" stroke-linecap="round"
-                  stroke-linejoin="round"/>
-        </svg>
-    `,
-  edit: o`
-    <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-      <path
-        d="M12.0001 6.66667L9.33344 4.00001M1.66675 14.3333L3.92299 14.0827C4.19865 14.052 4.33648 14.0367 4.46531 13.995C4.57961 13.958 4.68838 13.9057 4.78867 13.8396C4.90171 13.765 4.99977 13.667 5.1959 13.4709L14.0001 4.66667C14.7365 3.93029 14.7365 2.73639 14.0001 2.00001C13.2637 1.26363 12.0698 1.26363 11.3334 2.00001L2.52923 10.8042C2.33311 11.0003 2.23505 11.0983 2.16051 11.2114C2.09437 11.3117 2.04209 11.4205 2.00509 11.5348C1.96339 11.6636 1.94807 11.8014 1.91744 12.0771L1.66675 14.3333Z"
-        stroke="currentColor"
-        stroke-linecap="round"
-        stroke-linejoin="round" />
-    </svg>
-  `,
-  editAlt: o`
-    <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-      <g clip-path="url(#clip0_171_17)">
-        <path
-          d="M7.33325 2.66665H4.53325C3.41315 2.66665 2.85309 2.66665 2.42527 2.88464C2.04895 3.07639 1.74299 3.38235 1.55124 3.75867C1.33325 4.1865 1.33325 4.74655 1.33325 5.86665V11.4667C1.33325 12.5867 1.33325 13.1468 1.55124 13.5747C1.74299 13.9509 2.04895 14.2569 2.42527 14.4487C2.85309 14.6667 3.41315 14.6667 4.53325 14.6667H10.1333C11.2534 14.6667 11.8134 14.6667 12.2413 14.4487C12.6176 14.2569 12.9235 13.9509 13.1153 13.5747C13.3333 13.1468 13.3333 12.5867 13.3333 11.4667V8.66667M5.33323 10.6667H6.4496C6.77572 10.6667 6.93879 10.6667 7.09225 10.6298C7.22825 10.5971 7.35832 10.5433 7.47765 10.4702C7.61219 10.3877 7.72752 10.2724 7.95812 10.0418L14.3333 3.66665C14.8855 3.11437 14.8855 2.21894 14.3333 1.66665C13.781 1.11437 12.8855 1.11437 12.3333 1.66665L5.95807 8.0418C5.72747 8.2724 5.61217 8.38773 5.52971 8.52227C5.45661 8.6416 5.40274 8.7716 5.37007 8.90767C5.33323 9.06113 5.33323 9.2242 5.33323 9.55033V10.6667Z"
-          stroke="currentColor"
-          stroke-linecap="round"
-          stroke-linejoin="round" />
-      </g>
-      <defs>
-        <clipPath id="clip0_171_17">
-          <rect width="16" height="16" fill="white" />
-        </clipPath>
-      </defs>
-    </svg>
-  `,
-  code: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M14 2.26953V6.40007C14 6.96012 14 7.24015 14.109 7.45406C14.2049 7.64222 14.3578 7.7952 14.546 7.89108C14.7599 8.00007 15.0399 8.00007 15.6 8.00007H19.7305M14 17.5L16.5 15L14 12.5M10 12.5L7.5 15L10 17.5M20 9.98822V17.2C20 18.8802 20 19.7202 19.673 20.362C19.3854 20.9265 18.9265 21.3854 18.362 21.673C17.7202 22 16.8802 22 15.2 22H8.8C7.11984 22 6.27976 22 5.63803 21.673C5.07354 21.3854 4.6146 20.9265 4.32698 20.362C4 19.7202 4 18.8802 4 17.2V6.8C4 5.11984 4 4.27976 4.32698 3.63803C4.6146 3.07354 5.07354 2.6146 5.63803 2.32698C6.27976 2 7.11984 2 8.8 2H12.0118C12.7455 2 13.1124 2 13.4577 2.08289C13.7638 2.15638 14.0564 2.27759 14.3249 2.44208C14.6276 2.6276 14.887 2.88703 15.4059 3.40589L18.5941 6.59411C19.113 7.11297 19.3724 7.3724 19.5579 7.67515C19.7224 7.94356 19.8436 8.2362 19.9171 8.5423C20 8.88757 20 9.25445 20 9.98822Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>
-  `,
-  codeAlt: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-      <path
-        d="M3.33341 12.3333C3.33341 12.6429 3.33341 12.7977 3.35053 12.9277C3.46868 13.8252 4.17489 14.5314 5.07236 14.6495C5.20233 14.6666 5.35713 14.6666 5.66675 14.6666H10.8001C11.9202 14.6666 12.4802 14.6666 12.9081 14.4486C13.2844 14.2569 13.5903 13.951 13.7821 13.5746C14.0001 13.1468 14.0001 12.5868 14.0001 11.4666V6.65879C14.0001 6.16961 14.0001 5.92503 13.9448 5.69485C13.8958 5.49078 13.815 5.29569 13.7053 5.11675C13.5817 4.91491 13.4087 4.74195 13.0628 4.39605L10.9373 2.27057C10.5914 1.92467 10.4185 1.75171 10.2167 1.62803C10.0377 1.51837 9.84261 1.43757 9.63855 1.38857C9.40835 1.33331 9.16375 1.33331 8.67461 1.33331H5.66675C5.35713 1.33331 5.20233 1.33331 5.07236 1.35043C4.17489 1.46858 3.46868 2.17479 3.35053 3.07226C3.33341 3.20223 3.33341 3.35703 3.33341 3.66665M6.00008 9.66665L7.66675 7.99998L6.00008 6.33331M3.33341 6.33331L1.66675 7.99998L3.33341 9.66665"
-        stroke="currentColor"
-        stroke-width="1"
-        stroke-linecap="round"
-        stroke-linejoin="round" />
-    </svg>
-  `,
-  trash: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M16 6V5.2C16 4.0799 16 3.51984 15.782 3.09202C15.5903 2.71569 15.2843 2.40973 14.908 2.21799C14.4802 2 13.9201 2 12.8 2H11.2C10.0799 2 9.51984 2 9.09202 2.21799C8.71569 2.40973 8.40973 2.71569 8.21799 3.09202C8 3.51984 8 4.0799 8 5.2V6M10 11.5V16.5M14 11.5V16.5M3 6H21M19 6V17.2C19 18.8802 19 19.7202 18.673 20.362C18.3854 20.9265 17.9265 21.3854 17.362 21.673C16.7202 22 15.8802 22 14.2 22H9.8C8.11984 22 7.27976 22 6.63803 21.673C6.07354 21.3854 5.6146 20.9265 5.32698 20.362C5 19.7202 5 18.8802 5 17.2V6" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  clock: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M12 6V12L16 14M22 12C22 17.5228 17.5228 22 12 22C6.47715 22 2 17.5228 2 12C2 6.47715 6.47715 2 12 2C17.5228 2 22 6.47715 22 12Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  exclamationMark: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M12 8V12M12 16H12.01M22 12C22 17.5228 17.5228 22 12 22C6.47715 22 2 17.5228 2 12C2 6.47715 6.47715 2 12 2C17.5228 2 22 6.47715 22 12Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  warning: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M11.9998 8.99999V13M11.9998 17H12.0098M10.6151 3.89171L2.39019 18.0983C1.93398 18.8863 1.70588 19.2803 1.73959 19.6037C1.769 19.8857 1.91677 20.142 2.14613 20.3088C2.40908 20.5 2.86435 20.5 3.77487 20.5H20.2246C21.1352 20.5 21.5904 20.5 21.8534 20.3088C22.0827 20.142 22.2305 19.8857 22.2599 19.6037C22.2936 19.2803 22.0655 18.8863 21.6093 18.0983L13.3844 3.89171C12.9299 3.10654 12.7026 2.71396 12.4061 2.58211C12.1474 2.4671 11.8521 2.4671 11.5935 2.58211C11.2969 2.71396 11.0696 3.10655 10.6151 3.89171Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  refresh: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M14.6667 6.66667C14.6667 6.66667 13.33 4.84548 12.2441 3.75883C11.1582 2.67218 9.6576 2 8 2C4.68629 2 2 4.68629 2 8C2 11.3137 4.68629 14 8 14C10.7354 14 13.0433 12.1695 13.7655 9.66667M14.6667 6.66667V2.66667M14.6667 6.66667H10.6667" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  save: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M4.66667 2V4.26667C4.66667 4.64003 4.66667 4.82672 4.73933 4.96933C4.80325 5.09477 4.90523 5.19675 5.03067 5.26067C5.17328 5.33333 5.35997 5.33333 5.73333 5.33333H10.2667C10.6401 5.33333 10.8267 5.33333 10.9693 5.26067C11.0948 5.19675 11.1967 5.09477 11.2607 4.96933C11.3333 4.82672 11.3333 4.64003 11.3333 4.26667V2.66667M11.3333 14V9.73333C11.3333 9.35993 11.3333 9.17327 11.2607 9.03067C11.1967 8.9052 11.0948 8.80327 10.9693 8.73933C10.8267 8.66667 10.6401 8.66667 10.2667 8.66667H5.73333C5.35997 8.66667 5.17328 8.66667 5.03067 8.73933C4.90523 8.80327 4.80325 8.9052 4.73933 9.03067C4.66667 9.17327 4.66667 9.35993 4.66667 9.73333V14M14 6.21699V10.8C14 11.9201 14 12.4801 13.782 12.908C13.5903 13.2843 13.2843 13.5903 12.908 13.782C12.4801 14 11.9201 14 10.8 14H5.2C4.07989 14 3.51984 14 3.09202 13.782C2.71569 13.5903 2.40973 13.2843 2.21799 12.908C2 12.4801 2 11.9201 2 10.8V5.2C2 4.07989 2 3.51984 2.21799 3.09202C2.40973 2.71569 2.71569 2.40973 3.09202 2.21799C3.51984 2 4.07989 2 5.2 2H9.783C10.1091 2 10.2722 2 10.4257 2.03684C10.5617 2.0695 10.6917 2.12337 10.8111 2.19648C10.9456 2.27893 11.0609 2.39423 11.2915 2.62484L13.3751 4.70849C13.6057 4.9391 13.7211 5.0544 13.8035 5.18895C13.8766 5.30825 13.9305 5.43831 13.9631 5.57436C14 5.72781 14 5.89087 14 6.21699Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  info: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M12 16V12M12 8H12.01M22 12C22 17.5228 17.5228 22 12 22C6.47715 22 2 17.5228 2 12C2 6.47715 6.47715 2 12 2C17.5228 2 22 6.47715 22 12Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  github: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <g clip-path="url(#clip0_202_25)">
-      <path fill-rule="evenodd" clip-rule="evenodd" d="M7.97616 0C3.56555 0 0 3.59184 0 8.03543C0 11.5874 2.28457 14.5941 5.45388 15.6583C5.85012 15.7383 5.99527 15.4854 5.99527 15.2727C5.99527 15.0864 5.9822 14.4478 5.9822 13.7825C3.76343 14.2616 3.30139 12.8247 3.30139 12.8247C2.94482 11.8934 2.41649 11.654 2.41649 11.654C1.69029 11.1618 2.46939 11.1618 2.46939 11.1618C3.27494 11.215 3.69763 11.9866 3.69763 11.9866C4.41061 13.2104 5.55951 12.8647 6.02171 12.6518C6.08767 12.1329 6.2991 11.7737 6.52359 11.5742C4.75396 11.3879 2.89208 10.6962 2.89208 7.60963C2.89208 6.73159 3.20882 6.01322 3.71069 5.45453C3.63151 5.25502 3.35412 4.43004 3.79004 3.32588C3.79004 3.32588 4.46351 3.11298 5.98204 4.15069C6.63218 3.9748 7.30265 3.88532 7.97616 3.88457C8.64963 3.88457 9.33616 3.9778 9.97012 4.15069C11.4888 3.11298 12.1623 3.32588 12.1623 3.32588C12.5982 4.43004 12.3207 5.25502 12.2415 5.45453C12.7566 6.01322 13.0602 6.73159 13.0602 7.60963C13.0602 10.6962 11.1984 11.3745 9.41551 11.5742C9.70612 11.8269 9.9569 12.3058 9.9569 13.0642C9.9569 14.1417 9.94384 15.0065 9.94384 15.2725C9.94384 15.4854 10.0891 15.7383 10.4852 15.6584C13.6545 14.594 15.9391 11.5874 15.9391 8.03543C15.9522 3.59184 12.3736 0 7.97616 0Z" fill="currentColor" />
-    </g>
-    <defs>
-      <clipPath id="clip0_202_25">
-        <rect width="16" height="15.6735" fill="white" />
-      </clipPath>
-    </defs>
-  </svg>
-  `,
-  play: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M3.33334 3.32634C3.33334 2.6789 3.33334 2.35518 3.46833 2.17674C3.58593 2.02128 3.76568 1.92508 3.96027 1.91346C4.18363 1.90012 4.45298 2.07969 4.99168 2.43882L12.0021 7.1124C12.4472 7.40914 12.6697 7.55754 12.7473 7.74454C12.8151 7.90807 12.8151 8.0918 12.7473 8.25534C12.6697 8.44234 12.4472 8.59067 12.0021 8.88747L4.99168 13.561C4.45298 13.9201 4.18363 14.0997 3.96027 14.0864C3.76568 14.0748 3.58593 13.9786 3.46833 13.8231C3.33334 13.6447 3.33334 13.3209 3.33334 12.6735V3.32634Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  loading: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M8 1.5V3.16667M8 12V14.6667M3.83333 8H1.5M14.1667 8H13.1667M12.3047 12.3047L11.8333 11.8333M12.4428 3.61053L11.5 4.55333M3.28105 12.7189L5.16667 10.8333M3.41912 3.47245L4.83333 4.88667" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  error: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <g clip-path="url(#clip0_216_291)">
-      <path d="M8 5.33334V8.00001M14.6667 8.00001C14.6667 11.6819 11.6819 14.6667 8 14.6667C4.31809 14.6667 1.33333 11.6819 1.33333 8.00001C1.33333 4.31811 4.31809 1.33334 8 1.33334C11.6819 1.33334 14.6667 4.31811 14.6667 8.00001Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-      <circle cx="8" cy="10.67" r="0.5" fill="currentColor"/>
-    </g>
-    <defs>
-      <clipPath id="clip0_216_291">
-        <rect width="16" height="16" fill="white"/>
-      </clipPath>
-    </defs>
-  </svg>
-  `,
-  help: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <g clip-path="url(#clip0_226_27)">
-      <path d="M6.06 6.00001C6.21673 5.55446 6.52609 5.17875 6.93333 4.93943C7.34053 4.70012 7.81926 4.61264 8.2848 4.69248C8.75033 4.77234 9.17253 5.01436 9.47673 5.3757C9.78086 5.73703 9.9474 6.19436 9.94666 6.66668C9.94666 8.00001 7.94666 8.66668 7.94666 8.66668M14.6667 8.00001C14.6667 11.6819 11.6819 14.6667 8 14.6667C4.31809 14.6667 1.33333 11.6819 1.33333 8.00001C1.33333 4.31811 4.31809 1.33334 8 1.33334C11.6819 1.33334 14.6667 4.31811 14.6667 8.00001Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-      <circle cx="8" cy="11.33" r="0.5" fill="currentColor"/>
-    </g>
-    <defs>
-      <clipPath id="clip0_226_27">
-        <rect width="16" height="16" fill="white"/>
-      </clipPath>
-    </defs>
-  </svg>
-  `,
-  copy: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M10.5 2.0028C9.82495 2.01194 9.4197 2.05103 9.09202 2.21799C8.71569 2.40973 8.40973 2.71569 8.21799 3.09202C8.05103 3.4197 8.01194 3.82495 8.0028 4.5M19.5 2.0028C20.1751 2.01194 20.5803 2.05103 20.908 2.21799C21.2843 2.40973 21.5903 2.71569 21.782 3.09202C21.949 3.4197 21.9881 3.82494 21.9972 4.49999M21.9972 13.5C21.9881 14.175 21.949 14.5803 21.782 14.908C21.5903 15.2843 21.2843 15.5903 20.908 15.782C20.5803 15.949 20.1751 15.9881 19.5 15.9972M22 7.99999V9.99999M14.0001 2H16M5.2 22H12.8C13.9201 22 14.4802 22 14.908 21.782C15.2843 21.5903 15.5903 21.2843 15.782 20.908C16 20.4802 16 19.9201 16 18.8V11.2C16 10.0799 16 9.51984 15.782 9.09202C15.5903 8.71569 15.2843 8.40973 14.908 8.21799C14.4802 8 13.9201 8 12.8 8H5.2C4.0799 8 3.51984 8 3.09202 8.21799C2.71569 8.40973 2.40973 8.71569 2.21799 9.09202C2 9.51984 2 10.0799 2 11.2V18.8C2 19.9201 2 20.4802 2.21799 20.908C2.40973 21.2843 2.71569 21.5903 3.09202 21.782C3.51984 22 4.07989 22 5.2 22Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  paste: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M16 4C16.93 4 17.395 4 17.7765 4.10222C18.8117 4.37962 19.6204 5.18827 19.8978 6.22354C20 6.60504 20 7.07003 20 8V17.2C20 18.8802 20 19.7202 19.673 20.362C19.3854 20.9265 18.9265 21.3854 18.362 21.673C17.7202 22 16.8802 22 15.2 22H8.8C7.11984 22 6.27976 22 5.63803 21.673C5.07354 21.3854 4.6146 20.9265 4.32698 20.362C4 19.7202 4 18.8802 4 17.2V8C4 7.07003 4 6.60504 4.10222 6.22354C4.37962 5.18827 5.18827 4.37962 6.22354 4.10222C6.60504 4 7.07003 4 8 4M9.6 6H14.4C14.9601 6 15.2401 6 15.454 5.89101C15.6422 5.79513 15.7951 5.64215 15.891 5.45399C16 5.24008 16 4.96005 16 4.4V3.6C16 3.03995 16 2.75992 15.891 2.54601C15.7951 2.35785 15.6422 2.20487 15.454 2.10899C15.2401 2 14.9601 2 14.4 2H9.6C9.03995 2 8.75992 2 8.54601 2.10899C8.35785 2.20487 8.20487 2.35785 8.10899 2.54601C8 2.75992 8 3.03995 8 3.6V4.4C8 4.96005 8 5.24008 8.10899 5.45399C8.20487 5.64215 8.35785 5.79513 8.54601 5.89101C8.75992 6 9.03995 6 9.6 6Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  duplicate: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M8 8V5.2C8 4.0799 8 3.51984 8.21799 3.09202C8.40973 2.71569 8.71569 2.40973 9.09202 2.21799C9.51984 2 10.0799 2 11.2 2H18.8C19.9201 2 20.4802 2 20.908 2.21799C21.2843 2.40973 21.5903 2.71569 21.782 3.09202C22 3.51984 22 4.0799 22 5.2V12.8C22 13.9201 22 14.4802 21.782 14.908C21.5903 15.2843 21.2843 15.5903 20.908 15.782C20.4802 16 19.9201 16 18.8 16H16M5.2 22H12.8C13.9201 22 14.4802 22 14.908 21.782C15.2843 21.5903 15.5903 21.2843 15.782 20.908C16 20.4802 16 19.9201 16 18.8V11.2C16 10.0799 16 9.51984 15.782 9.09202C15.5903 8.71569 15.2843 8.40973 14.908 8.21799C14.4802 8 13.9201 8 12.8 8H5.2C4.0799 8 3.51984 8 3.09202 8.21799C2.71569 8.40973 2.40973 8.71569 2.21799 9.09202C2 9.51984 2 10.0799 2 11.2V18.8C2 19.9201 2 20.4802 2.21799 20.908C2.40973 21.2843 2.71569 21.5903 3.09202 21.782C3.51984 22 4.07989 22 5.2 22Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  overlay: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <g clip-path="url(#clip0_211_179)">
-      <path d="M1.33325 3.46665C1.33325 2.71991 1.33325 2.34654 1.47858 2.06133C1.60641 1.81044 1.81038 1.60647 2.06127 1.47864C2.34648 1.33331 2.71985 1.33331 3.46659 1.33331H8.53325C9.27998 1.33331 9.65338 1.33331 9.93858 1.47864C10.1895 1.60647 10.3935 1.81044 10.5213 2.06133C10.6666 2.34654 10.6666 2.71991 10.6666 3.46665V8.53331C10.6666 9.28005 10.6666 9.65345 10.5213 9.93865C10.3935 10.1895 10.1895 10.3935 9.93858 10.5213C9.65338 10.6666 9.27998 10.6666 8.53325 10.6666H3.46659C2.71985 10.6666 2.34648 10.6666 2.06127 10.5213C1.81038 10.3935 1.60641 10.1895 1.47858 9.93865C1.33325 9.65345 1.33325 9.28005 1.33325 8.53331V3.46665Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round" />
-      <path d="M5.33325 7.46665C5.33325 6.71991 5.33325 6.34654 5.47858 6.06133C5.60641 5.81044 5.81038 5.60647 6.06127 5.47864C6.34648 5.33331 6.71985 5.33331 7.46659 5.33331H12.5333C13.28 5.33331 13.6534 5.33331 13.9386 5.47864C14.1895 5.60647 14.3935 5.81044 14.5213 6.06133C14.6666 6.34654 14.6666 6.71991 14.6666 7.46665V12.5333C14.6666 13.28 14.6666 13.6534 14.5213 13.9386C14.3935 14.1895 14.1895 14.3935 13.9386 14.5213C13.6534 14.6666 13.28 14.6666 12.5333 14.6666H7.46659C6.71985 14.6666 6.34648 14.6666 6.06127 14.5213C5.81038 14.3935 5.60641 14.1895 5.47858 13.9386C5.33325 13.6534 5.33325 13.28 5.33325 12.5333V7.46665Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round" />
-    </g>
-    <defs>
-      <clipPath id="clip0_211_179">
-        <rect width="16" height="16" fill="white" />
-      </clipPath>
-    </defs>
-  </svg>
-  `,
-  linkExternal: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M21 9L21 3M21 3H15M21 3L13 11M10 5H7.8C6.11984 5 5.27976 5 4.63803 5.32698C4.07354 5.6146 3.6146 6.07354 3.32698 6.63803C3 7.27976 3 8.11984 3 9.8V16.2C3 17.8802 3 18.7202 3.32698 19.362C3.6146 19.9265 4.07354 20.3854 4.63803 20.673C5.27976 21 6.11984 21 7.8 21H14.2C15.8802 21 16.7202 21 17.362 20.673C17.9265 20.3854 18.3854 19.9265 18.673 19.362C19 18.7202 19 17.8802 19 16.2V14" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  locked: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-  <path d="M11.3333 7.33333V5.33333C11.3333 3.49239 9.84093 2 8 2C6.15905 2 4.66667 3.49239 4.66667 5.33333C4.66667 5.33333 4.66667 6.55228 4.66667 7.33333" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round" />
-  <path d="M5.86667 14H10.1333C11.2535 14 11.8135 14 12.2413 13.782C12.6177 13.5903 12.9236 13.2843 13.1153 12.908C13.3333 12.4801 13.3333 11.9201 13.3333 10.8V10.5333C13.3333 9.41321 13.3333 8.85321 13.1153 8.42534C12.9236 8.04901 12.6177 7.74308 12.2413 7.55134C11.8135 7.33334 11.2535 7.33334 10.1333 7.33334H5.86667C4.74656 7.33334 4.18651 7.33334 3.75869 7.55134C3.38236 7.74308 3.0764 8.04901 2.88465 8.42534C2.66667 8.85321 2.66667 9.41321 2.66667 10.5333V10.8C2.66667 11.9201 2.66667 12.4801 2.88465 12.908C3.0764 13.2843 3.38236 13.5903 3.75869 13.782C4.18651 14 4.74656 14 5.86667 14Z" fill="currentColor" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round" />
-</svg>`,
-  unlocked: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-  <path d="M4.66666 7.33333V5.33333C4.66666 3.49239 6.15905 2 8 2C9.61266 2 10.9578 3.14517 11.2667 4.66667M5.86666 14H10.1333C11.2535 14 11.8135 14 12.2413 13.782C12.6177 13.5903 12.9236 13.2843 13.1153 12.908C13.3333 12.4801 13.3333 11.9201 13.3333 10.8V10.5333C13.3333 9.4132 13.3333 8.8532 13.1153 8.42533C12.9236 8.049 12.6177 7.74307 12.2413 7.55133C11.8135 7.33333 11.2535 7.33333 10.1333 7.33333H5.86666C4.74656 7.33333 4.1865 7.33333 3.75868 7.55133C3.38236 7.74307 3.0764 8.049 2.88465 8.42533C2.66666 8.8532 2.66666 9.4132 2.66666 10.5333V10.8C2.66666 11.9201 2.66666 12.4801 2.88465 12.908C3.0764 13.2843 3.38236 13.5903 3.75868 13.782C4.1865 14 4.74656 14 5.86666 14Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round" />
-</svg>`,
-  rhombus: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-<path d="M2.88562 9.88559C2.22559 9.22556 1.89557 8.89554 1.77193 8.515C1.66316 8.18026 1.66316 7.81968 1.77193 7.48494C1.89557 7.1044 2.22559 6.77438 2.88562 6.11435L6.18545 2.81452C6.8455 2.15447 7.17548 1.82449 7.55605 1.70082C7.89079 1.59205 8.25136 1.59207 8.58609 1.70084C8.96664 1.82448 9.29666 2.15449 9.95669 2.81452L13.2565 6.11435C13.9166 6.7744 14.2465 7.10438 14.3702 7.48496C14.479 7.8197 14.479 8.18024 14.3702 8.51498C14.2465 8.89556 13.9166 9.22554 13.2565 9.88559L9.95669 13.1854C9.29666 13.8454 8.96664 14.1755 8.58609 14.2991C8.25136 14.4079 7.89079 14.4079 7.55605 14.2991C7.17548 14.1754 6.8455 13.8455 6.18545 13.1854L2.88562 9.88559Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-</svg>`,
-  atom: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M11.9995 12.0001H12.0095M15.535 15.5357C10.8488 20.222 5.46685 22.438 3.51423 20.4854C1.56161 18.5328 3.77769 13.1509 8.46398 8.46461C13.1503 3.77832 18.5322 1.56224 20.4848 3.51486C22.4374 5.46748 20.2213 10.8494 15.535 15.5357ZM15.535 8.46443C20.2213 13.1507 22.4374 18.5326 20.4848 20.4852C18.5321 22.4379 13.1502 20.2218 8.46394 15.5355C3.77765 10.8492 1.56157 5.4673 3.51419 3.51468C5.46681 1.56206 10.8487 3.77814 15.535 8.46443ZM12.4995 12.0001C12.4995 12.2763 12.2757 12.5001 11.9995 12.5001C11.7234 12.5001 11.4995 12.2763 11.4995 12.0001C11.4995 11.724 11.7234 11.5001 11.9995 11.5001C12.2757 11.5001 12.4995 11.724 12.4995 12.0001Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  codeSnippet: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-<path d="M10.6667 12L14.6667 8L10.6667 4M5.33333 4L1.33333 8L5.33333 12" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-</svg>`,
-  thumbsUp: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-<path d="M4.66667 14.6667V7.33334M1.33334 8.66668V13.3333C1.33334 14.0697 1.93029 14.6667 2.66667 14.6667H11.6175C12.6047 14.6667 13.4441 13.9465 13.5943 12.9708L14.3122 8.30414C14.4986 7.09261 13.5612 6.00001 12.3355 6.00001H10C9.6318 6.00001 9.33334 5.70153 9.33334 5.33334V2.97724C9.33334 2.06934 8.59734 1.33334 7.68947 1.33334C7.47287 1.33334 7.27667 1.46088 7.18874 1.65876L4.84263 6.93741C4.73563 7.17821 4.49688 7.33334 4.23342 7.33334H2.66667C1.93029 7.33334 1.33334 7.93028 1.33334 8.66668Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-</svg>`,
-  thumbsUpFilled: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-<path d="M4.66666 14.6667V7.33334ZM1.33333 8.66668V13.3333C1.33333 14.0697 1.93028 14.6667 2.66666 14.6667H11.6175C12.6047 14.6667 13.4441 13.9465 13.5943 12.9708L14.3122 8.30414C14.4986 7.09261 13.5612 6.00001 12.3355 6.00001H10C9.6318 6.00001 9.33333 5.70153 9.33333 5.33334V2.97724C9.33333 2.06934 8.59733 1.33334 7.68946 1.33334C7.47286 1.33334 7.27666 1.46088 7.18873 1.65876L4.84262 6.93741C4.73562 7.17821 4.49688 7.33334 4.23342 7.33334H2.66666C1.93028 7.33334 1.33333 7.93028 1.33333 8.66668Z" fill="currentColor"/>
-<path d="M4.66666 14.6667V7.33334M1.33333 8.66668V13.3333C1.33333 14.0697 1.93028 14.6667 2.66666 14.6667H11.6175C12.6047 14.6667 13.4441 13.9465 13.5943 12.9708L14.3122 8.30414C14.4986 7.09261 13.5612 6.00001 12.3355 6.00001H10C9.6318 6.00001 9.33333 5.70153 9.33333 5.33334V2.97724C9.33333 2.06934 8.59733 1.33334 7.68946 1.33334C7.47286 1.33334 7.27666 1.46088 7.18873 1.65876L4.84262 6.93741C4.73562 7.17821 4.49688 7.33334 4.23342 7.33334H2.66666C1.93028 7.33334 1.33333 7.93028 1.33333 8.66668Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-</svg>`,
-  thumbsDown: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-<path d="M11.3334 1.33334V8.66668M14.6667 6.53334V3.46668C14.6667 2.71994 14.6667 2.34657 14.5214 2.06136C14.3935 1.81047 14.1896 1.6065 13.9387 1.47867C13.6535 1.33334 13.2801 1.33334 12.5334 1.33334H5.41204C4.43772 1.33334 3.95056 1.33334 3.55709 1.51163C3.2103 1.66877 2.91557 1.92162 2.70753 2.24049C2.47148 2.60227 2.39741 3.08377 2.24926 4.04676L1.90054 6.31342C1.70514 7.58354 1.60743 8.21861 1.79591 8.71274C1.96133 9.14648 2.27247 9.50914 2.67599 9.73861C3.13572 10 3.77826 10 5.06333 10H5.60004C5.97341 10 6.16009 10 6.3027 10.0727C6.42814 10.1366 6.53013 10.2385 6.59404 10.364C6.66674 10.5066 6.66674 10.6933 6.66674 11.0667V13.0228C6.66674 13.9307 7.40267 14.6667 8.3106 14.6667C8.52714 14.6667 8.7234 14.5391 8.81134 14.3413L11.0519 9.30014C11.1537 9.07081 11.2047 8.95621 11.2852 8.87214C11.3564 8.79781 11.4439 8.74101 11.5407 8.70614C11.6502 8.66668 11.7757 8.66668 12.0265 8.66668H12.5334C13.2801 8.66668 13.6535 8.66668 13.9387 8.52134C14.1896 8.39354 14.3935 8.18954 14.5214 7.93868C14.6667 7.65348 14.6667 7.28008 14.6667 6.53334Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-</svg>`,
-  thumbsDownFilled: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-<path d="M11.3334 1.33334V8.66668ZM14.6667 6.53334V3.46668C14.6667 2.71994 14.6667 2.34657 14.5214 2.06136C14.3935 1.81047 14.1896 1.6065 13.9387 1.47867C13.6535 1.33334 13.2801 1.33334 12.5334 1.33334H5.41204C4.43772 1.33334 3.95056 1.33334 3.55708 1.51163C3.2103 1.66877 2.91556 1.92162 2.70752 2.24049C2.47148 2.60227 2.3974 3.08377 2.24925 4.04676L1.90053 6.31342C1.70513 7.58354 1.60742 8.21861 1.7959 8.71274C1.96132 9.14648 2.27246 9.50914 2.67598 9.73861C3.13572 10 3.77826 10 5.06332 10H5.60003C5.9734 10 6.16008 10 6.30269 10.0727C6.42814 10.1366 6.53012 10.2385 6.59404 10.364C6.66673 10.5066 6.66673 10.6933 6.66673 11.0667V13.0228C6.66673 13.9307 7.40266 14.6667 8.3106 14.6667C8.52713 14.6667 8.7234 14.5391 8.81133 14.3413L11.0519 9.30014C11.1537 9.07081 11.2047 8.95621 11.2852 8.87214C11.3564 8.79781 11.4439 8.74101 11.5407 8.70614C11.6502 8.66668 11.7757 8.66668 12.0265 8.66668H12.5334C13.2801 8.66668 13.6535 8.66668 13.9387 8.52134C14.1896 8.39354 14.3935 8.18954 14.5214 7.93868C14.6667 7.65348 14.6667 7.28008 14.6667 6.53334Z" fill="currentColor"/>
-<path d="M11.3334 1.33334V8.66668M14.6667 6.53334V3.46668C14.6667 2.71994 14.6667 2.34657 14.5214 2.06136C14.3935 1.81047 14.1896 1.6065 13.9387 1.47867C13.6535 1.33334 13.2801 1.33334 12.5334 1.33334H5.41204C4.43772 1.33334 3.95056 1.33334 3.55708 1.51163C3.2103 1.66877 2.91556 1.92162 2.70752 2.24049C2.47148 2.60227 2.3974 3.08377 2.24925 4.04676L1.90053 6.31342C1.70513 7.58354 1.60742 8.21861 1.7959 8.71274C1.96132 9.14648 2.27246 9.50914 2.67598 9.73861C3.13572 10 3.77826 10 5.06332 10H5.60003C5.9734 10 6.16008 10 6.30269 10.0727C6.42814 10.1366 6.53012 10.2385 6.59404 10.364C6.66673 10.5066 6.66673 10.6933 6.66673 11.0667V13.0228C6.66673 13.9307 7.40266 14.6667 8.3106 14.6667C8.52713 14.6667 8.7234 14.5391 8.81133 14.3413L11.0519 9.30014C11.1537 9.07081 11.2047 8.95621 11.2852 8.87214C11.3564 8.79781 11.4439 8.74101 11.5407 8.70614C11.6502 8.66668 11.7757 8.66668 12.0265 8.66668H12.5334C13.2801 8.66668 13.6535 8.66668 13.9387 8.52134C14.1896 8.39354 14.3935 8.18954 14.5214 7.93868C14.6667 7.65348 14.6667 7.28008 14.6667 6.53334Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-</svg>`,
-  check: o`<svg width="100%" height="100%" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M20 6L9 17L4 12" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  vaadinLogo: o`
-  <svg width="24" height="24" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
-        <path d="M3 3C2.55 3 2.25 3.3 2.25 3.75V5.625C2.25 7.05 3.45 8.25 4.875 8.25H10.1997C10.7997 8.25 11.25 8.70029 11.25 9.30029V9.75C11.25 10.2 11.55 10.5 12 10.5C12.45 10.5 12.75 10.2 12.75 9.75V9.30029C12.75 8.70029 13.2003 8.25 13.8003 8.25H19.125C20.55 8.25 21.75 7.05 21.75 5.625V3.75C21.75 3.3 21.45 3 21 3C20.55 3 20.25 3.3 20.25 3.75V4.19971C20.25 4.79971 19.7997 5.25 19.1997 5.25H14.25C12.975 5.25 12 6.225 12 7.5C12 6.225 11.025 5.25 9.75 5.25H4.80029C4.20029 5.25 3.75 4.79971 3.75 4.19971V3.75C3.75 3.3 3.45 3 3 3ZM7.76367 11.2705C7.62187 11.2834 7.48184 11.3244 7.35059 11.3994C6.82559 11.6994 6.59941 12.3744 6.89941 12.8994L11.0244 20.3994C11.1744 20.7744 11.625 21 12 21C12.375 21 12.8256 20.7744 12.9756 20.3994L17.1006 12.8994C17.4006 12.3744 17.1744 11.6994 16.6494 11.3994C16.1244 11.0994 15.4494 11.3256 15.1494 11.8506L12 17.5503L8.85059 11.8506C8.62559 11.4568 8.18906 11.2318 7.76367 11.2705Z" fill="currentColor"/>
-    </svg>
-  `,
-  cancel: o`
-  <svg width="24" height="24" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M12 22C17.5228 22 22 17.5228 22 12C22 6.47715 17.5228 2 12 2C6.47715 2 2 6.47715 2 12C2 17.5228 6.47715 22 12 22Z" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-    <path d="M8 9.6C8 9.03995 8 8.75992 8.10899 8.54601C8.20487 8.35785 8.35785 8.20487 8.54601 8.10899C8.75992 8 9.03995 8 9.6 8H14.4C14.9601 8 15.2401 8 15.454 8.10899C15.6422 8.20487 15.7951 8.35785 15.891 8.54601C16 8.75992 16 9.03995 16 9.6V14.4C16 14.9601 16 15.2401 15.891 15.454C15.7951 15.6422 15.6422 15.7951 15.454 15.891C15.2401 16 14.9601 16 14.4 16H9.6C9.03995 16 8.75992 16 8.54601 15.891C8.35785 15.7951 8.20487 15.6422 8.10899 15.454C8 15.2401 8 14.9601 8 14.4V9.6Z" fill="currentColor" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  x: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M11.3333 4.66666L4.66667 11.3333M4.66667 4.66666L11.3333 11.3333" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-    </svg>
-  `,
-  rotatingSpinner: o`
-  <svg width="24" height="24" viewBox="0 0 24 24" xmlns="http://www.w3.org/2000/svg">
-    <path d="M12,1A11,11,0,1,0,23,12,11,11,0,0,0,12,1Zm0,19a8,8,0,1,1,8-8A8,8,0,0,1,12,20Z" opacity=".25" fill="currentColor"/>
-    <path fill="currentColor" d="M10.14,1.16a11,11,0,0,0-9,8.92A1.59,1.59,0,0,0,2.46,12,1.52,1.52,0,0,0,4.11,10.7a8,8,0,0,1,6.66-6.61A1.42,1.42,0,0,0,12,2.69h0A1.57,1.57,0,0,0,10.14,1.16Z">
-    <animateTransform attributeName="transform" type="rotate" dur="0.75s" values="0 12 12;360 12 12" repeatCount="indefinite"/>
-    </path>
-   </svg>
-  `,
-  dockLeft: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M6 2V14M5.2 2H10.8C11.9201 2 12.4801 2 12.908 2.21799C13.2843 2.40973 13.5903 2.71569 13.782 3.09202C14 3.51984 14 4.07989 14 5.2V10.8C14 11.9201 14 12.4801 13.782 12.908C13.5903 13.2843 13.2843 13.5903 12.908 13.782C12.4801 14 11.9201 14 10.8 14H5.2C4.07989 14 3.51984 14 3.09202 13.782C2.71569 13.5903 2.40973 13.2843 2.21799 12.908C2 12.4801 2 11.9201 2 10.8V5.2C2 4.07989 2 3.51984 2.21799 3.09202C2.40973 2.71569 2.71569 2.40973 3.09202 2.21799C3.51984 2 4.07989 2 5.2 2Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  dockBottom: o`
-  <svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
-   <path d="M3 15H21M7.8 3H16.2C17.8802 3 18.7202 3 19.362 3.32698C19.9265 3.6146 20.3854 4.07354 20.673 4.63803C21 5.27976 21 6.11984 21 7.8V16.2C21 17.8802 21 18.7202 20.673 19.362C20.3854 19.9265 19.9265 20.3854 19.362 20.673C18.7202 21 17.8802 21 16.2 21H7.8C6.11984 21 5.27976 21 4.63803 20.673C4.07354 20.3854 3.6146 19.9265 3.32698 19.362C3 18.7202 3 17.8802 3 16.2V7.8C3 6.11984 3 5.27976 3.32698 4.63803C3.6146 4.07354 4.07354 3.6146 4.63803 3.32698C5.27976 3 6.11984 3 7.8 3Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  dockRight: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M10 2V14M5.2 2H10.8C11.9201 2 12.4801 2 12.908 2.21799C13.2843 2.40973 13.5903 2.71569 13.782 3.09202C14 3.51984 14 4.07989 14 5.2V10.8C14 11.9201 14 12.4801 13.782 12.908C13.5903 13.2843 13.2843 13.5903 12.908 13.782C12.4801 14 11.9201 14 10.8 14H5.2C4.07989 14 3.51984 14 3.09202 13.782C2.71569 13.5903 2.40973 13.2843 2.21799 12.908C2 12.4801 2 11.9201 2 10.8V5.2C2 4.07989 2 3.51984 2.21799 3.09202C2.40973 2.71569 2.71569 2.40973 3.09202 2.21799C3.51984 2 4.07989 2 5.2 2Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-
-  `,
-  tabOrder: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-<path d="M14 14V2M2 8H11.3333M11.3333 8L6.66667 3.33333M11.3333 8L6.66667 12.6667" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-</svg>`,
-  terminal: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M4 17L10 11L4 5M12 19H20" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  undo: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-  <path d="M2 6.00001H11C12.6569 6.00001 14 7.34314 14 9.00001C14 10.6569 12.6569 12 11 12H8M2 6.00001L4.66667 3.33334M2 6.00001L4.66667 8.66668" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-</svg>`,
-  redo: o`<svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-  <path d="M14 6.00001H5C3.34315 6.00001 2 7.34314 2 9.00001C2 10.6569 3.34315 12 5 12H8M14 6.00001L11.3333 3.33334M14 6.00001L11.3333 8.66668" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-</svg>`,
-  userUp: o`<svg width="100%" height="100%" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
-  <path d="M16 18L19 15M19 15L22 18M19 15V21M12 15.5H7.5C6.10444 15.5 5.40665 15.5 4.83886 15.6722C3.56045 16.06 2.56004 17.0605 2.17224 18.3389C2 18.9067 2 19.6044 2 21M14.5 7.5C14.5 9.98528 12.4853 12 10 12C7.51472 12 5.5 9.98528 5.5 7.5C5.5 5.01472 7.51472 3 10 3C12.4853 3 14.5 5.01472 14.5 7.5Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
-    </svg>`,
-  userLeft: o`<svg width="100%" height="100%" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M19 21L16 18M16 18L19 15M16 18H22M12 15.5H7.5C6.10444 15.5 5.40665 15.5 4.83886 15.6722C3.56045 16.06 2.56004 17.0605 2.17224 18.3389C2 18.9067 2 19.6044 2 21M14.5 7.5C14.5 9.98528 12.4853 12 10 12C7.51472 12 5.5 9.98528 5.5 7.5C5.5 5.01472 7.51472 3 10 3C12.4853 3 14.5 5.01472 14.5 7.5Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  userRight: o`<svg width="100%" height="100%" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M19 21L22 18M22 18L19 15M22 18H16M12 15.5H7.5C6.10444 15.5 5.40665 15.5 4.83886 15.6722C3.56045 16.06 2.56004 17.0605 2.17224 18.3389C2 18.9067 2 19.6044 2 21M14.5 7.5C14.5 9.98528 12.4853 12 10 12C7.51472 12 5.5 9.98528 5.5 7.5C5.5 5.01472 7.51472 3 10 3C12.4853 3 14.5 5.01472 14.5 7.5Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  padding: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M12 2H4M12 14H4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-    <rect x="5.5" y="5.5" width="5" height="5" rx="1.5" stroke="currentColor"/>
-    <path d="M14 12V4M2 12V4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>`,
-  paddingTop: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M12 2H4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-    <rect x="5.5" y="5.5" width="5" height="5" rx="1.5" stroke="currentColor"/>
-  </svg>
-  `,
-  paddingRight: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <rect x="5.5" y="5.5" width="5" height="5" rx="1.5" stroke="currentColor"/>
-    <path d="M14 12V4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  paddingBottom: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M12 14H4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-    <rect x="5.5" y="5.5" width="5" height="5" rx="1.5" stroke="currentColor"/>
-  </svg>
-  `,
-  paddingLeft: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <rect x="5.5" y="5.5" width="5" height="5" rx="1.5" stroke="currentColor"/>
-    <path d="M2 12V4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  paddingVertical: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M12 2H4M12 14H4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-    <rect x="5.5" y="5.5" width="5" height="5" rx="1.5" stroke="currentColor"/>
-  </svg>
-  `,
-  paddingHorizontal: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <rect x="5.5" y="5.5" width="5" height="5" rx="1.5" stroke="currentColor"/>
-    <path d="M14 12V4M2 12V4" stroke="currentColor" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  maximize: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M5.33333 2H5.2C4.07989 2 3.51984 2 3.09202 2.21799C2.71569 2.40973 2.40973 2.71569 2.21799 3.09202C2 3.51984 2 4.07989 2 5.2V5.33333M5.33333 14H5.2C4.07989 14 3.51984 14 3.09202 13.782C2.71569 13.5903 2.40973 13.2843 2.21799 12.908C2 12.4801 2 11.9201 2 10.8V10.6667M14 5.33333V5.2C14 4.07989 14 3.51984 13.782 3.09202C13.5903 2.71569 13.2843 2.40973 12.908 2.21799C12.4801 2 11.9201 2 10.8 2H10.6667M14 10.6667V10.8C14 11.9201 14 12.4801 13.782 12.908C13.5903 13.2843 13.2843 13.5903 12.908 13.782C12.4801 14 11.9201 14 10.8 14H10.6667" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  gapHorizontal: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M14 14V2M2 14V2M6 5.33333V10.6667C6 11.2879 6 11.5985 6.10149 11.8436C6.23682 12.1703 6.49639 12.4299 6.82307 12.5652C7.06813 12.6667 7.37873 12.6667 8 12.6667C8.62127 12.6667 8.93187 12.6667 9.17693 12.5652C9.5036 12.4299 9.7632 12.1703 9.89853 11.8436C10 11.5985 10 11.2879 10 10.6667V5.33333C10 4.71208 10 4.40145 9.89853 4.15642C9.7632 3.82972 9.5036 3.57015 9.17693 3.43483C8.93187 3.33333 8.62127 3.33333 8 3.33333C7.37873 3.33333 7.06813 3.33333 6.82307 3.43483C6.49639 3.57015 6.23682 3.82972 6.10149 4.15642C6 4.40145 6 4.71208 6 5.33333Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  gapVertical: o`
-  <svg width="16" height="16" viewBox="0 0 16 16" fill="none" xmlns="http://www.w3.org/2000/svg">
-    <path d="M14 2H2M14 14H2M3.33333 8C3.33333 7.37873 3.33333 7.06813 3.43483 6.82307C3.57015 6.49639 3.82972 6.23682 4.15642 6.10149C4.40145 6 4.71208 6 5.33333 6H10.6667C11.2879 6 11.5985 6 11.8436 6.10149C12.1703 6.23682 12.4299 6.49639 12.5652 6.82307C12.6667 7.06813 12.6667 7.37873 12.6667 8C12.6667 8.62127 12.6667 8.93187 12.5652 9.17693C12.4299 9.5036 12.1703 9.7632 11.8436 9.89853C11.5985 10 11.2879 10 10.6667 10H5.33333C4.71208 10 4.40145 10 4.15642 9.89853C3.82972 9.7632 3.57015 9.5036 3.43483 9.17693C3.33333 8.93187 3.33333 8.62127 3.33333 8Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
-  </svg>
-  `,
-  select: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M21 9.5V7.8C21 6.11984 21 5.27976 20.673 4.63803C20.3854 4.07354 19.9265 3.6146 19.362 3.32698C18.7202 3 17.8802 3 16.2 3H7.8C6.11984 3 5.27976 3 4.63803 3.32698C4.07354 3.6146 3.6146 4.07354 3.32698 4.63803C3 5.27976 3 6.11984 3 7.8V16.2C3 17.8802 3 18.7202 3.32698 19.362C3.6146 19.9265 4.07354 20.3854 4.63803 20.673C5.27976 21 6.11984 21 7.8 21H9.5M17.3862 17.7113L15.6879 20.8653C15.4103 21.3808 15.2715 21.6386 15.1023 21.7059C14.9555 21.7643 14.7896 21.7498 14.6551 21.6668C14.5001 21.5712 14.4081 21.2933 14.2241 20.7375L11.5004 12.5113C11.3392 12.0245 11.2586 11.7812 11.3166 11.6191C11.367 11.478 11.478 11.367 11.6191 11.3166C11.7812 11.2586 12.0245 11.3392 12.5113 11.5004L20.7374 14.2241C21.2933 14.4082 21.5712 14.5002 21.6668 14.6551C21.7498 14.7897 21.7642 14.9555 21.7058 15.1024C21.6386 15.2715 21.3808 15.4103 20.8652 15.6879L17.7113 17.3862C17.6328 17.4285 17.5935 17.4497 17.5591 17.4768C17.5286 17.501 17.501 17.5286 17.4768 17.5591C17.4497 17.5935 17.4285 17.6328 17.3862 17.7113Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  click: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M9 3.5V2M5.06066 5.06066L4 4M5.06066 13L4 14.0607M13 5.06066L14.0607 4M3.5 9H2M15.8645 16.1896L13.3727 20.817C13.0881 21.3457 12.9457 21.61 12.7745 21.6769C12.6259 21.7349 12.4585 21.7185 12.324 21.6328C12.1689 21.534 12.0806 21.2471 11.9038 20.6733L8.44519 9.44525C8.3008 8.97651 8.2286 8.74213 8.28669 8.58383C8.33729 8.44595 8.44595 8.33729 8.58383 8.2867C8.74213 8.22861 8.9765 8.3008 9.44525 8.44519L20.6732 11.9038C21.247 12.0806 21.5339 12.169 21.6327 12.324C21.7185 12.4586 21.7348 12.6259 21.6768 12.7745C21.61 12.9458 21.3456 13.0881 20.817 13.3728L16.1896 15.8645C16.111 15.9068 16.0717 15.9279 16.0374 15.9551C16.0068 15.9792 15.9792 16.0068 15.9551 16.0374C15.9279 16.0717 15.9068 16.111 15.8645 16.1896Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  wrap: o`<svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M21 9.25H15M21 4H3M21 14.75H15M21 20H3M4.6 16H9.4C9.96005 16 10.2401 16 10.454 15.891C10.6422 15.7951 10.7951 15.6422 10.891 15.454C11 15.2401 11 14.9601 11 14.4V9.6C11 9.03995 11 8.75992 10.891 8.54601C10.7951 8.35785 10.6422 8.20487 10.454 8.10899C10.2401 8 9.96005 8 9.4 8H4.6C4.03995 8 3.75992 8 3.54601 8.10899C3.35785 8.20487 3.20487 8.35785 3.10899 8.54601C3 8.75992 3 9.03995 3 9.6V14.4C3 14.9601 3 15.2401 3.10899 15.454C3.20487 15.6422 3.35785 15.7951 3.54601 15.891C3.75992 16 4.03995 16 4.6 16Z" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>`,
-  link: o`
-    <svg width="16" height="16" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg">
- <path d="M5 12H19M19 12L12 5M19 12L12 19" stroke="currentColor" stroke-width="1" stroke-linecap="round" stroke-linejoin="round"/>
- </svg>
-  `
-};
-export {
-  r as i
-};
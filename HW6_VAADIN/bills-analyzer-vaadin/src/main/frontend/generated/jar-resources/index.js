@@ -1,2 +0,0 @@
-export * from './Flow';
-//# sourceMappingURL=index.js.map
\ No newline at end of file
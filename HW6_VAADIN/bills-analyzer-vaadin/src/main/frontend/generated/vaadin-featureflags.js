@@ -1,12 +0,0 @@
-// @ts-nocheck
-window.Vaadin = window.Vaadin || {};
-window.Vaadin.featureFlags = window.Vaadin.featureFlags || {};
-window.Vaadin.featureFlags.exampleFeatureFlag = false;
-window.Vaadin.featureFlags.collaborationEngineBackend = false;
-window.Vaadin.featureFlags.webPush = false;
-window.Vaadin.featureFlags.formFillerAddon = false;
-window.Vaadin.featureFlags.hillaI18n = false;
-window.Vaadin.featureFlags.copilotFlow = false;
-window.Vaadin.featureFlags.copilotI18n = false;
-window.Vaadin.featureFlags.copilotExperimentalFeatures = false;
-export {};
\ No newline at end of file
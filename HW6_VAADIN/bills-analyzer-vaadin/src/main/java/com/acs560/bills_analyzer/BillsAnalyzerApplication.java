@@ -2,9 +2,17 @@ package com.acs560.bills_analyzer;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 
 @SpringBootApplication
-public class BillsAnalyzerApplication {
+@EnableScheduling
+@Push
+public class BillsAnalyzerApplication implements AppShellConfigurator {
+
+	private static final long serialVersionUID = 2841175632497811203L;
 
 	public static void main(String[] args) {
 		SpringApplication.run(BillsAnalyzerApplication.class, args);
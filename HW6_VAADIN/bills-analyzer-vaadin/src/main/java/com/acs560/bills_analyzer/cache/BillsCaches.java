@@ -0,0 +1,166 @@
+package com.acs560.bills_analyzer.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.acs560.bills_analyzer.events.BillChangedEvent;
+import com.acs560.bills_analyzer.events.BillsBulkChangedEvent;
+import com.acs560.bills_analyzer.events.CompanyChangedEvent;
+import com.acs560.bills_analyzer.models.CompaniesSnapshot;
+import com.acs560.bills_analyzer.models.Company;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * The size and time bounded cache of the bill reads and the snapshot of the companies.
+ * Entries are evicted, and the snapshot rebuilt, after the committed writes that can change them.
+ */
+@Component
+public class BillsCaches {
+
+	private final Cache<CacheKey, Object> bills;
+	
+	/** Incremented before the bills are evicted, a result loaded across an increment may be outdated */
+	private final AtomicLong billsGeneration = new AtomicLong();
+	
+	/** Incremented by the company changes, a snapshot of an older version is rebuilt */
+	private final AtomicLong companiesVersion = new AtomicLong();
+	private volatile CompaniesSnapshot companies;
+	
+	private final AtomicLong invalidations = new AtomicLong();
+	
+	public BillsCaches(@Value("${bills.cache.maximum-size:10000}") long maximumSize,
+			@Value("${bills.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+		this.bills = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(expireAfterWrite)
+				.recordStats()
+				.build();
+	}
+	
+	/**
+	 * Get a cached bills or analysis result, computing it on a miss.
+	 * Exceptions, e.g. NoSuchElementException, are not cached.
+	 * A result loaded while a write committed can be read before the commit 
+	 * and stored after its eviction, so it is evicted again when the generation moved.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T getBills(CacheKey key, Supplier<T> loader) {
+		long generation = billsGeneration.get();
+		var result = bills.get(key, k -> loader.get());
+		
+		if (generation != billsGeneration.get()) {
+			bills.asMap().remove(key, result);
+		}
+		return (T) result;
+	}
+	
+	/**
+	 * Get the snapshot of the companies, loading it on the first call and after a company change.
+	 * A change committed while loading leaves the loaded snapshot outdated, so the next call reloads.
+	 * @param loader - reads all the companies
+	 * @return - the current snapshot
+	 */
+	CompaniesSnapshot getCompaniesSnapshot(Supplier<List<Company>> loader) {
+		var snapshot = companies;
+		if (snapshot != null && snapshot.getVersion() == companiesVersion.get()) {
+			return snapshot;
+		}
+		
+		synchronized (this) {
+			long version = companiesVersion.get();
+			snapshot = companies;
+			
+			if (snapshot == null || snapshot.getVersion() != version) {
+				snapshot = new CompaniesSnapshot(version, loader.get());
+				companies = snapshot;
+			}
+			return snapshot;
+		}
+	}
+	
+	/**
+	 * Evict the results whose slice contains the changed bill
+	 * @param event - the bill change
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBillChanged(BillChangedEvent event) {
+		var bill = event.getBill();
+		int companyId = bill.getCompany().getId();
+		
+		billsGeneration.incrementAndGet();
+		bills.asMap().keySet().removeIf(key -> {
+			boolean affected = key.contains(companyId, bill.getMonth(), bill.getYear());
+			if (affected) {
+				invalidations.incrementAndGet();
+			}
+			return affected;
+		});
+	}
+	
+	/**
+	 * Outdate the companies snapshot and evict the bills of the company, which carry its name
+	 * @param event - the company change
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCompanyChanged(CompanyChangedEvent event) {
+		int companyId = event.getCompany().getId();
+		
+		companiesVersion.incrementAndGet();
+		invalidations.incrementAndGet();
+		
+		billsGeneration.incrementAndGet();
+		bills.asMap().keySet().removeIf(key -> {
+			boolean affected = key.companyId() == CacheKey.ALL_COMPANIES || key.companyId() == companyId;
+			if (affected) {
+				invalidations.incrementAndGet();
+			}
+			return affected;
+		});
+	}
+	
+	/**
+	 * Evict all bill results after a bulk write
+	 * @param event - the bulk write
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBillsBulkChanged(BillsBulkChangedEvent event) {
+		invalidations.addAndGet(bills.estimatedSize());
+		billsGeneration.incrementAndGet();
+		bills.invalidateAll();
+	}
+	
+	/**
+	 * Get the hit, miss and eviction counters of the caches
+	 * @return - the statistics by cache name
+	 */
+	public Map<String, CacheStats> getStats() {
+		return Map.of("bills", bills.stats());
+	}
+	
+	/**
+	 * Get the number of entries evicted by writes, 
+	 * as opposed to the size and time evictions in getStats
+	 * @return - the number of invalidated entries
+	 */
+	public long getInvalidationCount() {
+		return invalidations.get();
+	}
+	
+	/**
+	 * Evict everything, e.g. after a bulk change outside the services
+	 */
+	public void invalidateAll() {
+		billsGeneration.incrementAndGet();
+		bills.invalidateAll();
+		companiesVersion.incrementAndGet();
+	}
+}
@@ -0,0 +1,34 @@
+package com.acs560.bills_analyzer.cache;
+
+/**
+ * The key of a cached read, describing the slice of bills it depends on
+ * so that writes only evict the results they can change.
+ * 
+ * @param operation - the cached method
+ * @param companyId - the company id, or ALL_COMPANIES
+ * @param monthMask - the months as bits, bit 0 for January, see MonthRange
+ * @param fromYear - the first year, inclusive
+ * @param toYear - the last year, inclusive
+ */
+record CacheKey(String operation, int companyId, int monthMask, int fromYear, int toYear) {
+
+	static final int ALL_COMPANIES = -1;
+	static final int ALL_MONTHS = 0xFFF;
+	
+	static CacheKey of(String operation, int companyId, int monthMask) {
+		return new CacheKey(operation, companyId, monthMask, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+	
+	static int maskOf(int month) {
+		return 1 << (month - 1);
+	}
+	
+	/**
+	 * Check whether a bill of the company, month and year is part of this slice
+	 */
+	boolean contains(int companyId, int month, int year) {
+		return (this.companyId == ALL_COMPANIES || this.companyId == companyId)
+				&& (monthMask & maskOf(month)) != 0
+				&& year >= fromYear && year <= toYear;
+	}
+}
@@ -0,0 +1,70 @@
+package com.acs560.bills_analyzer.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import com.acs560.bills_analyzer.models.BillStatistics;
+import com.acs560.bills_analyzer.models.MonthRange;
+import com.acs560.bills_analyzer.services.BillsAnalysisService;
+import com.acs560.bills_analyzer.services.impl.BillsAnalysisServiceImpl;
+
+/**
+ * The caching decorator of the bills analysis service
+ */
+@Service
+@Primary
+public class CachingBillsAnalysisService implements BillsAnalysisService {
+
+	private BillsAnalysisService delegate;
+	private BillsCaches caches;
+	
+	@Autowired
+	public CachingBillsAnalysisService(BillsAnalysisServiceImpl delegate, BillsCaches caches) {
+		this.delegate = delegate;
+		this.caches = caches;
+	}
+	
+	@Override
+	public double calculateAverageForMonth(int companyId, int month) {
+		var key = CacheKey.of("calculateAverageForMonth", companyId, CacheKey.maskOf(month));
+		return caches.getBills(key, () -> delegate.calculateAverageForMonth(companyId, month));
+	}
+
+	@Override
+	public double calculateAverage(int companyId, int month, int monthRange) {
+		var months = MonthRange.of(month, monthRange);
+		var key = CacheKey.of("calculateAverage", companyId, months.getMask());
+		return caches.getBills(key, () -> delegate.calculateAverage(companyId, month, monthRange));
+	}
+
+	@Override
+	public double calculateAverage(int month) {
+		var key = CacheKey.of("calculateAverage", CacheKey.ALL_COMPANIES, CacheKey.maskOf(month));
+		return caches.getBills(key, () -> delegate.calculateAverage(month));
+	}
+
+	@Override
+	public double calculateAverageForMonthRange(int month, int monthRange) {
+		var months = MonthRange.of(month, monthRange);
+		var key = CacheKey.of("calculateAverage", CacheKey.ALL_COMPANIES, months.getMask());
+		return caches.getBills(key, () -> delegate.calculateAverageForMonthRange(month, monthRange));
+	}
+
+	@Override
+	public BillStatistics calculateStatistics(int month, int monthRange, int fromYear, int toYear) {
+		var months = MonthRange.of(month, monthRange);
+		var key = new CacheKey("calculateStatistics", CacheKey.ALL_COMPANIES, months.getMask(), 
+				fromYear, toYear);
+		return caches.getBills(key, () -> delegate.calculateStatistics(month, monthRange, fromYear, toYear));
+	}
+
+	@Override
+	public BillStatistics calculateStatistics(int companyId, int month, int monthRange, int fromYear, int toYear) {
+		var months = MonthRange.of(month, monthRange);
+		var key = new CacheKey("calculateStatistics", companyId, months.getMask(), fromYear, toYear);
+		return caches.getBills(key, 
+				() -> delegate.calculateStatistics(companyId, month, monthRange, fromYear, toYear));
+	}
+
+}
@@ -0,0 +1,124 @@
+package com.acs560.bills_analyzer.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.BillOutcome;
+import com.acs560.bills_analyzer.models.MonthRange;
+import com.acs560.bills_analyzer.requests.BillSearchRequest;
+import com.acs560.bills_analyzer.services.BillsService;
+import com.acs560.bills_analyzer.services.impl.BillsServiceImpl;
+
+import jakarta.validation.Valid;
+
+/**
+ * The caching decorator of the bills service.
+ * The list reads are cached, pages and searches go to the database.
+ * Cached lists are unmodifiable and shared, as are their bills, which are immutable.
+ */
+@Service
+@Primary
+public class CachingBillsService implements BillsService {
+
+	private BillsService delegate;
+	private BillsCaches caches;
+	
+	@Autowired
+	public CachingBillsService(BillsServiceImpl delegate, BillsCaches caches) {
+		this.delegate = delegate;
+		this.caches = caches;
+	}
+	
+	@Override
+	public Optional<Bill> getBill(int companyId, int month, int year) {
+		var key = new CacheKey("getBill", companyId, CacheKey.maskOf(month), year, year);
+		return caches.getBills(key, () -> delegate.getBill(companyId, month, year));
+	}
+
+	@Override
+	public List<Bill> getBills() {
+		var key = CacheKey.of("getBills", CacheKey.ALL_COMPANIES, CacheKey.ALL_MONTHS);
+		return caches.getBills(key, () -> Collections.unmodifiableList(delegate.getBills()));
+	}
+
+	@Override
+	public List<Bill> getBills(Pageable pageable) {
+		return delegate.getBills(pageable);
+	}
+
+	@Override
+	public List<Bill> searchBills(@Valid BillSearchRequest search, Pageable pageable) {
+		return delegate.searchBills(search, pageable);
+	}
+
+	@Override
+	public List<Bill> getBillsByCompany(int companyId) {
+		var key = CacheKey.of("getBillsByCompany", companyId, CacheKey.ALL_MONTHS);
+		return caches.getBills(key, () -> Collections.unmodifiableList(delegate.getBillsByCompany(companyId)));
+	}
+
+	@Override
+	public List<Bill> getBillsByCompanyAndMonth(int companyId, int month) {
+		var key = CacheKey.of("getBillsByCompanyAndMonth", companyId, CacheKey.maskOf(month));
+		return caches.getBills(key, 
+				() -> Collections.unmodifiableList(delegate.getBillsByCompanyAndMonth(companyId, month)));
+	}
+
+	@Override
+	public Bill add(@Valid Bill bill) {
+		return delegate.add(bill);
+	}
+
+	@Override
+	public boolean delete(@Valid Bill bill) {
+		return delegate.delete(bill);
+	}
+
+	@Override
+	public Bill update(@Valid Bill bill) {
+		return delegate.update(bill);
+	}
+
+	@Override
+	public List<BillOutcome> addAll(List<@Valid Bill> bills) {
+		return delegate.addAll(bills);
+	}
+	
+	@Override
+	public List<BillOutcome> updateAll(List<@Valid Bill> bills) {
+		return delegate.updateAll(bills);
+	}
+	
+	@Override
+	public List<BillOutcome> deleteAll(List<@Valid Bill> bills) {
+		return delegate.deleteAll(bills);
+	}
+	
+	@Override
+	public List<Bill> getBillsByMonth(int month) {
+		var key = CacheKey.of("getBillsByMonth", CacheKey.ALL_COMPANIES, CacheKey.maskOf(month));
+		return caches.getBills(key, () -> Collections.unmodifiableList(delegate.getBillsByMonth(month)));
+	}
+
+	@Override
+	public List<Bill> getBillsByMonthAndRange(int month, int range) {
+		var months = MonthRange.of(month, range);
+		var key = CacheKey.of("getBillsByMonthAndRange", CacheKey.ALL_COMPANIES, months.getMask());
+		return caches.getBills(key, () -> Collections.unmodifiableList(delegate.getBillsByMonthAndRange(month, range)));
+	}
+
+	@Override
+	public List<Bill> getBills(int companyId, int month, int range) {
+		var months = MonthRange.of(month, range);
+		var key = CacheKey.of("getBills", companyId, months.getMask());
+		return caches.getBills(key, () -> Collections.unmodifiableList(delegate.getBills(companyId, month, range)));
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.acs560.bills_analyzer.cache;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.acs560.bills_analyzer.models.CompaniesSnapshot;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.requests.CompanyRequest;
+import com.acs560.bills_analyzer.services.CompaniesService;
+import com.acs560.bills_analyzer.services.impl.CompaniesServiceImpl;
+
+import jakarta.validation.Valid;
+
+/**
+ * The caching decorator of the companies service.
+ * All the companies are read from a snapshot shared by all the sessions and rebuilt after a company change.
+ */
+@Service
+@Primary
+public class CachingCompaniesService implements CompaniesService {
+
+	private CompaniesService delegate;
+	private BillsCaches caches;
+	
+	@Autowired
+	public CachingCompaniesService(CompaniesServiceImpl delegate, BillsCaches caches) {
+		this.delegate = delegate;
+		this.caches = caches;
+	}
+	
+	@Override
+	public List<Company> getCompanies() {
+		return getSnapshot().getCompanies();
+	}
+
+	@Override
+	public List<Company> getCompanies(String filter) {
+		return delegate.getCompanies(filter);
+	}
+
+	@Override
+	public List<Company> getCompanies(String prefix, Pageable pageable) {
+		return delegate.getCompanies(prefix, pageable);
+	}
+
+	@Override
+	public Optional<Company> getCompany(int id) {
+		return getSnapshot().getCompany(id);
+	}
+	
+	@Override
+	public CompaniesSnapshot getSnapshot() {
+		return caches.getCompaniesSnapshot(delegate::getCompanies);
+	}
+
+	@Override
+	public Company addCompany(@Valid CompanyRequest c) {
+		return delegate.addCompany(c);
+	}
+
+	@Override
+	public Company updateCompany(int id, CompanyRequest c) {
+		return delegate.updateCompany(id, c);
+	}
+
+	@Override
+	public boolean deleteCompany(int id) {
+		return delegate.deleteCompany(id);
+	}
+
+}
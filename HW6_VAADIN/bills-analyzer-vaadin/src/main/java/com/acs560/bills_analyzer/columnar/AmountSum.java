@@ -0,0 +1,42 @@
+package com.acs560.bills_analyzer.columnar;
+
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A mergeable sum and count of bill amounts, for averages
+ */
+public class AmountSum implements DoubleConsumer {
+
+	private double sum;
+	private long count;
+	
+	@Override
+	public void accept(double amount) {
+		sum += amount;
+		count++;
+	}
+	
+	/**
+	 * Merge another sum into this one
+	 * @param other - the sum to merge
+	 * @return - this sum
+	 */
+	public AmountSum merge(AmountSum other) {
+		sum += other.sum;
+		count += other.count;
+		return this;
+	}
+	
+	/**
+	 * Get the average of the amounts
+	 * @return - the average, empty if there are no amounts
+	 */
+	public OptionalDouble average() {
+		return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(sum / count);
+	}
+	
+	public long getCount() {
+		return count;
+	}
+}
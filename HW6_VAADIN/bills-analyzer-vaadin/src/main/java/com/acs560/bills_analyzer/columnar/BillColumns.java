@@ -0,0 +1,338 @@
+package com.acs560.bills_analyzer.columnar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Bills stored as primitive columns, in no particular order.
+ * Aggregations scan the columns in row ranges, split over a fork-join pool
+ * and merged pairwise. The row of a bill is found by its key in an open addressing
+ * hash index of primitive slots. Not thread safe, writes must be excluded during reads.
+ */
+public class BillColumns {
+
+	/** The rows scanned by one fork-join task */
+	static final int ROWS_PER_TASK = 1 << 15;
+	
+	private static final int INITIAL_CAPACITY = 1024;
+	
+	/** The key of an empty index slot, a bill key is never 0 as its month is at least 1 */
+	private static final long EMPTY = 0;
+	
+	private int size;
+	private int[] months;
+	private int[] years;
+	private int[] companyIds;
+	private int[] cityIds;
+	private double[] amounts;
+	
+	/** The key index, keys and rows by slot, at most 3/4 full */
+	private long[] slotKeys;
+	private int[] slotRows;
+	
+	/** The dictionary of the city column */
+	private final List<String> cities = new ArrayList<>();
+	private final Map<String, Integer> cityIdsByName = new HashMap<>();
+	
+	public BillColumns() {
+		this(INITIAL_CAPACITY);
+	}
+	
+	/**
+	 * Constructor
+	 * @param capacity - the initial number of rows
+	 */
+	public BillColumns(int capacity) {
+		int initial = Math.max(capacity, 16);
+		months = new int[initial];
+		years = new int[initial];
+		companyIds = new int[initial];
+		cityIds = new int[initial];
+		amounts = new double[initial];
+		
+		int slots = Integer.highestOneBit(initial * 2 - 1) << 1;
+		slotKeys = new long[slots];
+		slotRows = new int[slots];
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Estimate the heap used by the columns and the key index, including their unused capacity.
+	 * The city dictionary is not counted, as it grows with the distinct cities only.
+	 * @return - the estimated bytes
+	 */
+	public long estimatedBytes() {
+		return (long) months.length * (4 * Integer.BYTES + Double.BYTES) 
+				+ (long) slotKeys.length * (Long.BYTES + Integer.BYTES);
+	}
+	
+	/**
+	 * Add a bill as the last row, which must not be stored already
+	 */
+	public void append(int month, int year, int companyId, String city, double amount) {
+		if (size == months.length) {
+			int capacity = size + (size >> 1);
+			months = Arrays.copyOf(months, capacity);
+			years = Arrays.copyOf(years, capacity);
+			companyIds = Arrays.copyOf(companyIds, capacity);
+			cityIds = Arrays.copyOf(cityIds, capacity);
+			amounts = Arrays.copyOf(amounts, capacity);
+		}
+		
+		months[size] = month;
+		years[size] = year;
+		companyIds[size] = companyId;
+		cityIds[size] = cityId(city);
+		amounts[size] = amount;
+		indexPut(key(month, year, companyId), size);
+		size++;
+	}
+	
+	/**
+	 * Replace the non key values of a row
+	 */
+	public void set(int row, String city, double amount) {
+		cityIds[row] = cityId(city);
+		amounts[row] = amount;
+	}
+	
+	/**
+	 * Remove a row by moving the last row into it
+	 */
+	public void remove(int row) {
+		int last = size - 1;
+		indexRemove(key(months[row], years[row], companyIds[row]));
+		
+		if (row != last) {
+			indexPut(key(months[last], years[last], companyIds[last]), row);
+		}
+		
+		months[row] = months[last];
+		years[row] = years[last];
+		companyIds[row] = companyIds[last];
+		cityIds[row] = cityIds[last];
+		amounts[row] = amounts[last];
+		size--;
+	}
+	
+	/**
+	 * Remove the rows of a company
+	 */
+	public void removeCompany(int companyId) {
+		for (int row = size - 1; row >= 0; row--) {
+			if (companyIds[row] == companyId) {
+				remove(row);
+			}
+		}
+	}
+	
+	/**
+	 * Remove all rows
+	 */
+	public void clear() {
+		size = 0;
+		Arrays.fill(slotKeys, EMPTY);
+		cities.clear();
+		cityIdsByName.clear();
+	}
+	
+	/**
+	 * Find the row of a bill by its key
+	 * @return - the row, or -1 if the bill is not stored
+	 */
+	public int find(int month, int year, int companyId) {
+		long key = key(month, year, companyId);
+		
+		for (int slot = slot(key); slotKeys[slot] != EMPTY; slot = next(slot)) {
+			if (slotKeys[slot] == key) {
+				return slotRows[slot];
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Aggregate the amounts of the bills in the months and years.
+	 * Each task accumulates a range of rows into its own accumulator, which are then merged.
+	 * @param companyId - the company id, null for all companies
+	 * @param monthMask - the months as bits, bit 0 for January, see MonthRange
+	 * @param fromYear - the first year, inclusive
+	 * @param toYear - the last year, inclusive
+	 * @param accumulator - creates an empty accumulator
+	 * @param merger - merges the second accumulator into the first
+	 * @param pool - the pool to run the tasks, null to scan in the calling thread
+	 * @return - the merged accumulator
+	 */
+	public <A extends DoubleConsumer> A aggregate(Integer companyId, int monthMask, int fromYear, int toYear,
+			Supplier<A> accumulator, BinaryOperator<A> merger, ForkJoinPool pool) {
+		var task = new AggregateTask<>(new Filter(companyId, monthMask, fromYear, toYear), 
+				accumulator, merger, 0, size);
+		
+		if (pool == null || size <= ROWS_PER_TASK) {
+			return task.compute();
+		}
+		
+		return pool.invoke(task);
+	}
+	
+	/**
+	 * The key of a bill, the month in 4 bits, the year in 14 and the company id above
+	 */
+	private static long key(int month, int year, int companyId) {
+		return (long) companyId << 18 | (long) year << 4 | month;
+	}
+	
+	private int slot(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ hash >>> 32) & (slotKeys.length - 1);
+	}
+	
+	private int next(int slot) {
+		return slot + 1 & slotKeys.length - 1;
+	}
+	
+	/**
+	 * Set the row of a key, adding the key if absent
+	 */
+	private void indexPut(long key, int row) {
+		if ((size + 1) * 4L > slotKeys.length * 3L) {
+			resizeIndex(slotKeys.length * 2);
+		}
+		
+		int slot = slot(key);
+		
+		while (slotKeys[slot] != EMPTY && slotKeys[slot] != key) {
+			slot = next(slot);
+		}
+		
+		slotKeys[slot] = key;
+		slotRows[slot] = row;
+	}
+	
+	/**
+	 * Remove a key, shifting back the keys of its probe sequence so that no lookup stops early
+	 */
+	private void indexRemove(long key) {
+		int slot = slot(key);
+		
+		while (slotKeys[slot] != key) {
+			if (slotKeys[slot] == EMPTY) {
+				return;
+			}
+			slot = next(slot);
+		}
+		
+		int hole = slot;
+		
+		for (slot = next(slot); slotKeys[slot] != EMPTY; slot = next(slot)) {
+			int home = slot(slotKeys[slot]);
+			
+			// Move the key into the hole unless its home slot lies cyclically in (hole, slot]
+			if ((slot - home & slotKeys.length - 1) >= (slot - hole & slotKeys.length - 1)) {
+				slotKeys[hole] = slotKeys[slot];
+				slotRows[hole] = slotRows[slot];
+				hole = slot;
+			}
+		}
+		
+		slotKeys[hole] = EMPTY;
+	}
+	
+	private void resizeIndex(int slots) {
+		long[] keys = slotKeys;
+		int[] rows = slotRows;
+		slotKeys = new long[slots];
+		slotRows = new int[slots];
+		
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != EMPTY) {
+				int slot = slot(keys[i]);
+				
+				while (slotKeys[slot] != EMPTY) {
+					slot = next(slot);
+				}
+				
+				slotKeys[slot] = keys[i];
+				slotRows[slot] = rows[i];
+			}
+		}
+	}
+	
+	private int cityId(String city) {
+		return cityIdsByName.computeIfAbsent(city, name -> {
+			cities.add(name);
+			return cities.size() - 1;
+		});
+	}
+	
+	private record Filter(Integer companyId, int monthMask, int fromYear, int toYear) {}
+	
+	/**
+	 * Accumulates a range of rows, split in halves until a range fits in one task
+	 */
+	private class AggregateTask<A extends DoubleConsumer> extends RecursiveTask<A> {
+
+		private static final long serialVersionUID = 1L;
+		
+		private final Filter filter;
+		private final Supplier<A> accumulator;
+		private final BinaryOperator<A> merger;
+		private final int from;
+		private final int to;
+		
+		AggregateTask(Filter filter, Supplier<A> accumulator, BinaryOperator<A> merger, int from, int to) {
+			this.filter = filter;
+			this.accumulator = accumulator;
+			this.merger = merger;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected A compute() {
+			if (to - from <= ROWS_PER_TASK) {
+				return scan();
+			}
+			
+			int middle = (from + to) >>> 1;
+			var left = new AggregateTask<>(filter, accumulator, merger, from, middle);
+			var right = new AggregateTask<>(filter, accumulator, merger, middle, to);
+			
+			left.fork();
+			A result = right.compute();
+			
+			return merger.apply(left.join(), result);
+		}
+		
+		private A scan() {
+			A result = accumulator.get();
+			int monthMask = filter.monthMask();
+			int fromYear = filter.fromYear();
+			int toYear = filter.toYear();
+			boolean allCompanies = filter.companyId() == null;
+			int companyId = allCompanies ? 0 : filter.companyId();
+			
+			for (int row = from; row < to; row++) {
+				if ((monthMask >>> (months[row] - 1) & 1) != 0
+						&& years[row] >= fromYear && years[row] <= toYear
+						&& (allCompanies || companyIds[row] == companyId)) {
+					result.accept(amounts[row]);
+				}
+			}
+			
+			return result;
+		}
+	}
+}
@@ -4,6 +4,8 @@ import com.acs560.bills_analyzer.models.Bill;
 
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.Table;
@@ -14,8 +16,19 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 
+/**
+ * The primary key (billing_month, billing_year, company_id) serves the month and single bill lookups,
+ * and the month aggregations as the clustered index of InnoDB holds the amounts.
+ * The company index ends with the amount so that the company aggregations read only the index.
+ */
 @Entity()
-@Table(name = "bills")
+@Table(name = "bills", indexes = {
+		@Index(name = "idx_bills_city", columnList = "city"),
+		@Index(name = "idx_bills_year_month", columnList = "billing_year, billing_month"),
+		@Index(name = "idx_bills_amount", columnList = "amount"),
+		@Index(name = "idx_bills_company_month_year_amount", 
+				columnList = "company_id, billing_month, billing_year, amount")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -25,7 +38,10 @@ public class BillEntity {
     @EmbeddedId
     private BillEntityId id;
     
-    @ManyToOne
+    /**
+     * Loaded only by the repository methods fetching it, see BillsRepository
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("companyId")
     private CompanyEntity company;
     
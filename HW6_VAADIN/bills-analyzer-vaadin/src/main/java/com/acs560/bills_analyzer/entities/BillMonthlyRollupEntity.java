@@ -0,0 +1,91 @@
+package com.acs560.bills_analyzer.entities;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The pre-aggregated amounts of the bills of a company in a calendar month, over all years.
+ * Maintained incrementally by the bills service writes.
+ * The primary key is (billing_month, company_id), so it also serves the averages of all companies in a month.
+ */
+@Entity
+@Table(name = "bill_monthly_rollups")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class BillMonthlyRollupEntity {
+
+	@EmbeddedId
+	private BillMonthlyRollupEntityId id;
+	
+	private long billCount;
+	private double amountSum;
+	private double amountSumOfSquares;
+	private double minAmount;
+	private double maxAmount;
+	
+	/**
+	 * Constructor used by the aggregating JPQL queries
+	 */
+	public BillMonthlyRollupEntity(int companyId, int billingMonth, long billCount, double amountSum,
+			double amountSumOfSquares, double minAmount, double maxAmount) {
+		this(new BillMonthlyRollupEntityId(companyId, billingMonth), billCount, amountSum,
+				amountSumOfSquares, minAmount, maxAmount);
+	}
+	
+	/**
+	 * Add a bill amount to this rollup
+	 * @param amount - the amount
+	 */
+	public void add(double amount) {
+		billCount++;
+		amountSum += amount;
+		amountSumOfSquares += amount * amount;
+		minAmount = Math.min(minAmount, amount);
+		maxAmount = Math.max(maxAmount, amount);
+	}
+	
+	/**
+	 * Remove a bill amount from this rollup.
+	 * The min and max cannot be decremented, see isBound.
+	 * @param amount - the amount
+	 */
+	public void remove(double amount) {
+		billCount--;
+		amountSum -= amount;
+		amountSumOfSquares -= amount * amount;
+	}
+	
+	/**
+	 * Check whether an amount is the min or max of this rollup
+	 * @param amount - the amount
+	 * @return - true if removing the amount can change the min or max
+	 */
+	public boolean isBound(double amount) {
+		return amount <= minAmount || amount >= maxAmount;
+	}
+	
+	/**
+	 * Check whether this rollup has the same aggregates as another
+	 * @param other - the other rollup
+	 * @param tolerance - the relative tolerance for the floating point aggregates
+	 * @return - true if the aggregates match
+	 */
+	public boolean matches(BillMonthlyRollupEntity other, double tolerance) {
+		return billCount == other.billCount
+				&& isClose(amountSum, other.amountSum, tolerance)
+				&& isClose(amountSumOfSquares, other.amountSumOfSquares, tolerance)
+				&& isClose(minAmount, other.minAmount, tolerance)
+				&& isClose(maxAmount, other.maxAmount, tolerance);
+	}
+	
+	private static boolean isClose(double a, double b, double tolerance) {
+		return Math.abs(a - b) <= tolerance * Math.max(1, Math.max(Math.abs(a), Math.abs(b)));
+	}
+}
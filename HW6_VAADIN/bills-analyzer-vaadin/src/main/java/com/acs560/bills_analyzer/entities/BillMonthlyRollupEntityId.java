@@ -0,0 +1,24 @@
+package com.acs560.bills_analyzer.entities;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class BillMonthlyRollupEntityId implements Serializable {
+
+	private static final long serialVersionUID = -2617465287915377310L;
+	private int companyId;
+	private int billingMonth;
+	
+}
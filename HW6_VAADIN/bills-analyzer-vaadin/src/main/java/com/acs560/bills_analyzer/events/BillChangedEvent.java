@@ -0,0 +1,20 @@
+package com.acs560.bills_analyzer.events;
+
+import com.acs560.bills_analyzer.models.Bill;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the bills service after a bill was added, updated or deleted
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class BillChangedEvent {
+
+	private final Bill bill;
+	private final ChangeType type;
+	
+}
@@ -0,0 +1,33 @@
+package com.acs560.bills_analyzer.events;
+
+import java.util.List;
+
+import com.acs560.bills_analyzer.models.Bill;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published after bills were written in bulk, by the import or the batch operations
+ * of the bills service, instead of one BillChangedEvent per bill.
+ * An event carries the bills of one transaction, so its size is bounded by the batch.
+ */
+@Getter
+@AllArgsConstructor
+@ToString(of = "type")
+public class BillsBulkChangedEvent {
+
+	private final ChangeType type;
+	
+	/** The written bills, the deleted ones only by their key */
+	private final List<Bill> bills;
+	
+	/**
+	 * Get the number of written bills
+	 * @return - the number of bills
+	 */
+	public int getCount() {
+		return bills.size();
+	}
+}
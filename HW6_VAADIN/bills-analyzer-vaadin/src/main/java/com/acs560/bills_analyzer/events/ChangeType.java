@@ -0,0 +1,10 @@
+package com.acs560.bills_analyzer.events;
+
+/**
+ * The kind of write that caused a change event
+ */
+public enum ChangeType {
+	ADDED,
+	UPDATED,
+	DELETED
+}
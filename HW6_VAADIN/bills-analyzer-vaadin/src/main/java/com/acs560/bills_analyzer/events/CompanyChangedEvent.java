@@ -0,0 +1,20 @@
+package com.acs560.bills_analyzer.events;
+
+import com.acs560.bills_analyzer.models.Company;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the companies service after a company was added, updated or deleted
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CompanyChangedEvent {
+
+	private final Company company;
+	private final ChangeType type;
+	
+}
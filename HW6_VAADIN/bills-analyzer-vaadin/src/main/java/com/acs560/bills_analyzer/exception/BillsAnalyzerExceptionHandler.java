@@ -14,10 +14,12 @@ import org.springframework.web.method.annotation.HandlerMethodValidationExceptio
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * The bills analyzer common exception handler
  */
+@Slf4j
 @RestControllerAdvice
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class BillsAnalyzerExceptionHandler {
@@ -33,7 +35,7 @@ public class BillsAnalyzerExceptionHandler {
 	
 	@ExceptionHandler(IllegalArgumentException.class)
 	public ResponseEntity<String> handle(IllegalArgumentException ex){
-		System.out.println("IllegalArgumentException");
+		log.debug("IllegalArgumentException: {}", ex.getMessage());
 		return ResponseEntity.badRequest().body(ex.getMessage());
 	}
 	
@@ -45,18 +47,19 @@ public class BillsAnalyzerExceptionHandler {
 	@ExceptionHandler(ConstraintViolationException.class)
 	@ResponseStatus(HttpStatus.BAD_REQUEST)
 	public ResponseEntity<String> handleConstraintViolationException(ConstraintViolationException ex){
-		System.out.println("ConstraintViolationException");
+		log.debug("ConstraintViolationException: {}", ex.getMessage());
 		return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
 	}
 	
 	@ExceptionHandler(NoResourceFoundException.class)
 	public ResponseEntity<String> handle(NoResourceFoundException ex){
-		System.out.println("NoResourceFoundException");
+		log.debug("NoResourceFoundException: {}", ex.getMessage());
 		return new ResponseEntity<>("Endpoint does not exist", HttpStatus.BAD_REQUEST);
 	}
 	
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<String> handle(Exception ex){
+		log.error("Unhandled exception", ex);
 		return ResponseEntity.internalServerError().body("We're sorry...but we failed :(");
 	}
 	
@@ -64,7 +67,7 @@ public class BillsAnalyzerExceptionHandler {
 	public ResponseEntity<String> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex){
 		var errors = ex.getBindingResult().getAllErrors();
 		String response = errors.size() > 0 ? errors.get(0).getDefaultMessage() : "Invalid value";
-		System.out.println("MethodArgumentNotValidException");
+		log.debug("MethodArgumentNotValidException: {}", ex.getMessage());
 		return ResponseEntity.badRequest().body(response);
 	}
 	
@@ -72,7 +75,7 @@ public class BillsAnalyzerExceptionHandler {
 	public ResponseEntity<String> handleHandlerMethodValidationException(HandlerMethodValidationException ex){
 		var errors = ex.getAllErrors();
 		String response = errors.size() > 0 ? errors.get(0).getDefaultMessage() : "Invalid value";
-		System.out.println("HandlerMethodValidationException");
+		log.debug("HandlerMethodValidationException: {}", ex.getMessage());
 		return ResponseEntity.badRequest().body(response);
 	}
 }
@@ -0,0 +1,84 @@
+package com.acs560.bills_analyzer.logging;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.vaadin.flow.shared.ApplicationConstants;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Puts the correlation ids of a request in the logging MDC:
+ * <ul>
+ * <li>correlationId - the X-Correlation-Id header of the request if valid, a new id otherwise,
+ * returned in the X-Correlation-Id header of the response</li>
+ * <li>uiId - the session and Vaadin UI of the request, e.g. 1a2b3c4d:0, the same for all the requests of a UI</li>
+ * </ul>
+ * The filter runs first so that the security and Vaadin logs have the ids too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "X-Correlation-Id";
+	public static final String CORRELATION_ID = "correlationId";
+	public static final String UI_ID = "uiId";
+	
+	private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+	
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String id = request.getHeader(HEADER);
+		if (id == null || !VALID_ID.matcher(id).matches()) {
+			id = Long.toHexString(ThreadLocalRandom.current().nextLong());
+		}
+		
+		MDC.put(CORRELATION_ID, id);
+		response.setHeader(HEADER, id);
+		
+		String uiId = uiIdOf(request);
+		if (uiId != null) {
+			MDC.put(UI_ID, uiId);
+		}
+		
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			MDC.remove(CORRELATION_ID);
+			MDC.remove(UI_ID);
+		}
+	}
+	
+	/**
+	 * Get the UI id of a Vaadin request, from the query string since reading
+	 * the parameters could consume the body of an upload
+	 * @param request - the request
+	 * @return - the session hash and UI id, null if not a UI request
+	 */
+	static String uiIdOf(HttpServletRequest request) {
+		String query = request.getQueryString();
+		var session = request.getSession(false);
+		if (query == null || session == null) {
+			return null;
+		}
+		
+		String prefix = ApplicationConstants.UI_ID_PARAMETER + "=";
+		for (String param : query.split("&")) {
+			if (param.startsWith(prefix) && VALID_ID.matcher(param.substring(prefix.length())).matches()) {
+				return Integer.toHexString(session.getId().hashCode()) + ":" + param.substring(prefix.length());
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,69 @@
+package com.acs560.bills_analyzer.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Keeps one in rate of the events below WARN of a logger and its children, e.g. org.hibernate.SQL,
+ * and drops the others before they are built. Enabled checks, e.g. isDebugEnabled, are not sampled.
+ * 
+ * The events of the optional follower logger, e.g. org.hibernate.orm.jdbc.bind, are not counted:
+ * they are kept or dropped with the last event of the logger on the same thread, so that a statement
+ * is logged with all of its bind parameters or not at all.
+ */
+@Getter
+@Setter
+public class SamplingTurboFilter extends TurboFilter {
+
+	private String loggerName;
+	private String followerName;
+	private int rate = 1;
+	
+	private final AtomicLong events = new AtomicLong();
+	
+	/** Whether the last event of the logger on this thread was kept */
+	private final ThreadLocal<Boolean> kept = ThreadLocal.withInitial(() -> Boolean.TRUE);
+	
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+		if (format == null || rate <= 1 || level.isGreaterOrEqual(Level.WARN)) {
+			return FilterReply.NEUTRAL;
+		}
+		
+		String name = logger.getName();
+		
+		if (matches(name, loggerName)) {
+			boolean keep = events.getAndIncrement() % rate == 0;
+			if (followerName != null) {
+				kept.set(keep);
+			}
+			return keep ? FilterReply.NEUTRAL : FilterReply.DENY;
+		}
+		if (followerName != null && matches(name, followerName)) {
+			return kept.get() ? FilterReply.NEUTRAL : FilterReply.DENY;
+		}
+		return FilterReply.NEUTRAL;
+	}
+	
+	private static boolean matches(String name, String prefix) {
+		return name.startsWith(prefix) 
+				&& (name.length() == prefix.length() || name.charAt(prefix.length()) == '.');
+	}
+	
+	@Override
+	public void start() {
+		if (loggerName == null) {
+			addError("No loggerName set for the filter " + getName());
+			return;
+		}
+		super.start();
+	}
+}
@@ -0,0 +1,144 @@
+package com.acs560.bills_analyzer.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Slice;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The meters of the calls of a layer, e.g. bills.service:
+ * <ul>
+ * <li>{name} timer with a percentile histogram, tagged class, method and exception</li>
+ * <li>the method tag holds the simple parameter types, e.g. getBills(Pageable), so the overloads are kept apart</li>
+ * <li>{name}.rows summary of the rows returned by the calls returning a collection, slice or optional</li>
+ * <li>{name}.not.found counter of the calls throwing NoSuchElementException</li>
+ * </ul>
+ */
+public class MethodMetrics {
+
+	/** The exception tag of the calls that returned */
+	static final String NONE = "none";
+	
+	/** A call to time */
+	@FunctionalInterface
+	public interface Call {
+		Object proceed() throws Throwable;
+	}
+	
+	private record MethodKey(String type, String method) {}
+	
+	private record Meters(Timer timer, DistributionSummary rows) {}
+	
+	private final MeterRegistry registry;
+	private final String name;
+	
+	private final Map<MethodKey, Meters> meters = new ConcurrentHashMap<>();
+	
+	/**
+	 * Create the metrics of a layer
+	 * @param registry - the registry of the meters
+	 * @param name - the name of the timer, prefix of the other meters
+	 */
+	public MethodMetrics(MeterRegistry registry, String name) {
+		this.registry = registry;
+		this.name = name;
+	}
+	
+	/**
+	 * Time a call and record its rows or not found result
+	 * @param type - the class tag, e.g. BillsServiceImpl
+	 * @param method - the method tag, see methodTag
+	 * @param call - the call
+	 * @return - the result of the call
+	 * @throws Throwable - the exception of the call, rethrown
+	 */
+	public Object record(String type, String method, Call call) throws Throwable {
+		long start = System.nanoTime();
+		Object result;
+		
+		try {
+			result = call.proceed();
+		} catch (Throwable e) {
+			long duration = System.nanoTime() - start;
+			timer(type, method, e.getClass().getSimpleName()).record(duration, TimeUnit.NANOSECONDS);
+			
+			if (e instanceof NoSuchElementException) {
+				Counter.builder(name + ".not.found")
+						.tag("class", type)
+						.tag("method", method)
+						.register(registry)
+						.increment();
+			}
+			throw e;
+		}
+		
+		long duration = System.nanoTime() - start;
+		var m = meters.computeIfAbsent(new MethodKey(type, method), k -> new Meters(
+				timer(type, method, NONE),
+				DistributionSummary.builder(name + ".rows")
+						.baseUnit("rows")
+						.tag("class", type)
+						.tag("method", method)
+						.publishPercentileHistogram()
+						.register(registry)));
+		
+		m.timer().record(duration, TimeUnit.NANOSECONDS);
+		
+		long rows = rowsOf(result);
+		if (rows >= 0) {
+			m.rows().record(rows);
+		}
+		return result;
+	}
+	
+	private Timer timer(String type, String method, String exception) {
+		return Timer.builder(name)
+				.tag("class", type)
+				.tag("method", method)
+				.tag("exception", exception)
+				.publishPercentileHistogram()
+				.register(registry);
+	}
+	
+	/**
+	 * Get the method tag of a method
+	 * @param method - the method
+	 * @return - the name and simple parameter types, e.g. getBills(int, int, int)
+	 */
+	public static String methodTag(Method method) {
+		return Arrays.stream(method.getParameterTypes())
+				.map(Class::getSimpleName)
+				.collect(Collectors.joining(", ", method.getName() + "(", ")"));
+	}
+	
+	/**
+	 * Get the rows of a result
+	 * @param result - the result of a call
+	 * @return - the size of a collection, map or slice, 0 or 1 for an optional, -1 otherwise.
+	 * Streams are not counted since they are read after the call.
+	 */
+	static long rowsOf(Object result) {
+		if (result instanceof Collection<?> c) {
+			return c.size();
+		} else if (result instanceof Slice<?> s) {
+			return s.getNumberOfElements();
+		} else if (result instanceof Optional<?> o) {
+			return o.isPresent() ? 1 : 0;
+		} else if (result instanceof Map<?, ?> m) {
+			return m.size();
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,60 @@
+package com.acs560.bills_analyzer.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Times the methods of the repositories, see MethodMetrics for the bills.repository meters.
+ * The interceptor is added to the repository proxies when they are built, before the query execution,
+ * which an aspect on the finished proxies would come after.
+ * Default methods are not timed themselves, the queries they call are.
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+	private final ObjectProvider<MeterRegistry> registry;
+	private volatile MethodMetrics metrics;
+	
+	@Autowired
+	public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+		this.registry = registry;
+	}
+	
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) {
+		if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+			factoryBean.addRepositoryFactoryCustomizer(factory -> 
+				factory.addRepositoryProxyPostProcessor((proxyFactory, information) -> {
+					String type = information.getRepositoryInterface().getSimpleName();
+					
+					proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+						var method = invocation.getMethod();
+						if (method.isDefault()) {
+							return invocation.proceed();
+						}
+						return metrics().record(type, MethodMetrics.methodTag(method), invocation::proceed);
+					});
+				}));
+		}
+		return bean;
+	}
+	
+	/**
+	 * Get the metrics, the registry is looked up on the first call
+	 * since the post processors are created before it
+	 */
+	private MethodMetrics metrics() {
+		var m = metrics;
+		if (m == null) {
+			m = new MethodMetrics(registry.getObject(), "bills.repository");
+			metrics = m;
+		}
+		return m;
+	}
+}
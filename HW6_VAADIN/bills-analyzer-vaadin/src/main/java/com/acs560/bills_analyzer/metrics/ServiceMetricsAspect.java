@@ -0,0 +1,34 @@
+package com.acs560.bills_analyzer.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Times the public methods of the services, e.g. BillsServiceImpl and its caching decorator,
+ * see MethodMetrics for the bills.service meters
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+	private final MethodMetrics metrics;
+	
+	@Autowired
+	public ServiceMetricsAspect(MeterRegistry registry) {
+		this.metrics = new MethodMetrics(registry, "bills.service");
+	}
+	
+	@Around("execution(public * com.acs560.bills_analyzer.services.*Service+.*(..))")
+	public Object record(ProceedingJoinPoint pjp) throws Throwable {
+		String type = AopUtils.getTargetClass(pjp.getTarget()).getSimpleName();
+		String method = MethodMetrics.methodTag(((MethodSignature) pjp.getSignature()).getMethod());
+		return metrics.record(type, method, pjp::proceed);
+	}
+}
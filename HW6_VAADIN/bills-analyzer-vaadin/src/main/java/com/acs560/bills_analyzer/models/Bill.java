@@ -11,40 +11,48 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.ToString;
 
 
+/**
+ * A bill, immutable so that the same instances can be shared by the caches and all the sessions.
+ * The forms edit a BillRequest instead.
+ */
 @Getter
-@Setter
-@NoArgsConstructor
 @AllArgsConstructor
 @ToString
-public class Bill implements Comparable<Bill> {
+public final class Bill implements Comparable<Bill> {
+	
+	/**
+	 * The natural order of bills, by year, month and company name.
+	 * Built once, as a comparator chain allocates on every call when built per comparison.
+	 */
+	public static final Comparator<Bill> ORDER = Comparator.comparingInt(Bill::getYear)
+			.thenComparingInt(Bill::getMonth)
+			.thenComparing(Bill::getCompany);
     
 	@NotNull(message="Month is required")
 	@Min(value=1, message="Month must be between 1 and 12")
 	@Max(value=12, message="Month must be between 1 and 12")
-    private int month;
+    private final int month;
 	
 	@NotNull(message="Year is required")
 	@Min(value=1000, message="Year must be 4 digits")
 	@Max(value=9999, message="Year must be 4 digits")
-    private int year;
+    private final int year;
 	
 	@NotNull(message="Company is required")
-    private Company company;
+    private final Company company;
     
 	/** If theres a string based non-pk field they need to add 
 	*	@Size to validate it and display meaningful messages in the textbox.
 	*/
 	@NotNull(message="City is required")
 	@Size(min = 2, max = 50, message = "City name must be between 2 and 50 characters")
-	private String city;
+	private final String city;
 	
 	@NotNull(message="Amount is required")
-    private double amount;
+    private final double amount;
     
     
     /**
@@ -79,6 +87,14 @@ public class Bill implements Comparable<Bill> {
 				Objects.equals(company, other.company);
 	}
     
+    /**
+     * Constructs a new Bill object from the selected columns of a bill and its company,
+     * used by the projection queries of BillsRepository.
+     */
+    public Bill(int month, int year, int companyId, String companyName, String city, double amount) {
+    	this(month, year, new Company(companyId, companyName), city, amount);
+    }
+    
     /**
      * Constructs a new Bill object based on the provided BillEntity.
      *
@@ -94,9 +110,6 @@ public class Bill implements Comparable<Bill> {
     
     @Override
 	public int compareTo(Bill o) {
-		return Comparator.comparing(Bill::getYear)
-		.thenComparing(Bill::getMonth)
-		.thenComparing(b-> b.getCompany().compareTo(o.getCompany()))
-		.compare(this, o);
+		return ORDER.compare(this, o);
 	}
 }
@@ -0,0 +1,37 @@
+package com.acs560.bills_analyzer.models;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The outcome of one bill of a batch operation
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class BillOutcome {
+
+	/**
+	 * The status of a bill in a batch
+	 */
+	public enum Status {
+		/** The bill was added, updated or deleted */
+		APPLIED,
+		/** The bill was not added because it already exists */
+		ALREADY_EXISTS,
+		/** The bill was not updated or deleted because it does not exist */
+		NOT_FOUND,
+		/** The bill was skipped because an earlier bill of the batch has the same id */
+		DUPLICATE
+	}
+	
+	private final Bill bill;
+	private final Status status;
+	
+	public boolean isApplied() {
+		return status == Status.APPLIED;
+	}
+}
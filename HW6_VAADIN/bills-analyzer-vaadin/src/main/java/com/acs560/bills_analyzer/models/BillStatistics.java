@@ -0,0 +1,36 @@
+package com.acs560.bills_analyzer.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Summary statistics of the amounts of a set of bills.
+ * The percentiles are approximations with a relative error of 1%.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class BillStatistics {
+
+	private final long count;
+	private final double sum;
+	private final double mean;
+	private final double min;
+	private final double max;
+	
+	/** The population variance */
+	private final double variance;
+	
+	private final double p50;
+	private final double p95;
+	private final double p99;
+	
+	/**
+	 * Get the population standard deviation
+	 * @return - the standard deviation
+	 */
+	public double getStandardDeviation() {
+		return Math.sqrt(variance);
+	}
+}
@@ -0,0 +1,23 @@
+package com.acs560.bills_analyzer.models;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The summary of a bills import
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class BillsImportResult {
+
+	private final long accepted;
+	private final long rejected;
+	
+	/** The reasons of the first rejected rows, prefixed by the line number */
+	private final List<String> rejections;
+	
+}
@@ -0,0 +1,77 @@
+package com.acs560.bills_analyzer.models;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.Getter;
+
+/**
+ * An immutable list of all the companies, sorted by name, with id and name indexes.
+ * The version tells snapshots apart, a newer snapshot has a greater version.
+ */
+@Getter
+public final class CompaniesSnapshot {
+
+	private final long version;
+	
+	/** The companies sorted by name, unmodifiable */
+	private final List<Company> companies;
+	
+	private final Map<Integer, Company> byId;
+	private final Map<String, Company> byName;
+	
+	/**
+	 * Create a snapshot of companies, the collection is copied
+	 * @param version - the version of the snapshot
+	 * @param companies - the companies
+	 */
+	public CompaniesSnapshot(long version, Collection<Company> companies) {
+		this.version = version;
+		
+		var sorted = companies.stream()
+				.sorted()
+				.toList();
+		
+		Map<Integer, Company> ids = new HashMap<>(sorted.size() * 2);
+		Map<String, Company> names = new HashMap<>(sorted.size() * 2);
+		
+		for (Company company : sorted) {
+			ids.put(company.getId(), company);
+			names.putIfAbsent(company.getName(), company);
+		}
+		
+		this.companies = sorted;
+		this.byId = Collections.unmodifiableMap(ids);
+		this.byName = Collections.unmodifiableMap(names);
+	}
+	
+	/**
+	 * Get a company by id
+	 * @param id - the company id
+	 * @return - the company, if any
+	 */
+	public Optional<Company> getCompany(int id) {
+		return Optional.ofNullable(byId.get(id));
+	}
+	
+	/**
+	 * Get a company by name
+	 * @param name - the exact company name
+	 * @return - the company, if any
+	 */
+	public Optional<Company> getCompany(String name) {
+		return Optional.ofNullable(byName.get(name));
+	}
+	
+	/**
+	 * Get the number of companies
+	 * @return - the number of companies
+	 */
+	public int size() {
+		return companies.size();
+	}
+}
@@ -5,19 +5,18 @@ import com.acs560.bills_analyzer.entities.CompanyEntity;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
 
+/**
+ * A company, immutable so that the same instances can be shared by the caches and all the sessions.
+ * The forms edit a CompanyRequest instead.
+ */
 @Getter
-@NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode
-public class Company implements Comparable<Company> {
+public final class Company implements Comparable<Company> {
 
-	private int id;
-	
-	@Setter
-	private String name;
+	private final int id;
+	private final String name;
 	
 	public Company(CompanyEntity ce) {
 		this(ce.getId(), ce.getName());
@@ -0,0 +1,108 @@
+package com.acs560.bills_analyzer.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The months within range of a month, wrapping around the year.
+ * All 12 x 6 ranges are built once, so getting a range does not allocate.
+ */
+@Getter
+@ToString(of = {"month", "range"})
+public final class MonthRange {
+
+	public static final int MAX_RANGE = 5;
+	
+	/** The number of months of the widest range */
+	public static final int MAX_MONTHS = 2 * MAX_RANGE + 1;
+
+	private static final MonthRange[][] RANGES = new MonthRange[12][MAX_RANGE + 1];
+
+	static {
+		for (int month = 1; month <= 12; month++) {
+			for (int range = 0; range <= MAX_RANGE; range++) {
+				RANGES[month - 1][range] = new MonthRange(month, range);
+			}
+		}
+	}
+
+	private final int month;
+	private final int range;
+
+	/** The months as bits, bit 0 for January */
+	private final int mask;
+
+	/** The months, unmodifiable */
+	private final Set<Integer> months;
+
+	/** 
+	 * The months padded to MAX_MONTHS by repeating the month, unmodifiable.
+	 * An IN query on them has the same parameters, so the same SQL, for every range.
+	 */
+	private final List<Integer> queryMonths;
+
+	private MonthRange(int month, int range) {
+		this.month = month;
+		this.range = range;
+
+		int bits = 0;
+		Set<Integer> set = new LinkedHashSet<>();
+		List<Integer> padded = new ArrayList<>(MAX_MONTHS);
+
+		for (int i = month - range; i <= month + range; i++) {
+			int m = (i + 11) % 12 + 1;
+			bits |= 1 << (m - 1);
+			set.add(m);
+			padded.add(m);
+		}
+		
+		while (padded.size() < MAX_MONTHS) {
+			padded.add(month);
+		}
+
+		mask = bits;
+		months = Collections.unmodifiableSet(set);
+		queryMonths = Collections.unmodifiableList(padded);
+	}
+
+	/**
+	 * Get the range of months around a month
+	 * @param month - the month, 1 to 12
+	 * @param range - the number of months before and after, 0 to 5
+	 * @return - the shared range
+	 * @throws IllegalArgumentException - if the month or range is out of bounds
+	 */
+	public static MonthRange of(int month, int range) throws IllegalArgumentException {
+		if (month < 1 || month > 12) {
+			throw new IllegalArgumentException("Month must be between 1 and 12");
+		} else if (range < 0 || range > MAX_RANGE) {
+			throw new IllegalArgumentException("Range must be between 0 and 5");
+		}
+
+		return RANGES[month - 1][range];
+	}
+
+	/**
+	 * Get the range of a single month
+	 * @param month - the month, 1 to 12
+	 * @return - the shared range
+	 */
+	public static MonthRange of(int month) {
+		return of(month, 0);
+	}
+
+	/**
+	 * Check whether a month is in this range
+	 * @param month - the month, 1 to 12
+	 * @return - true if the month is in range
+	 */
+	public boolean contains(int month) {
+		return month >= 1 && month <= 12 && (mask >>> (month - 1) & 1) != 0;
+	}
+}
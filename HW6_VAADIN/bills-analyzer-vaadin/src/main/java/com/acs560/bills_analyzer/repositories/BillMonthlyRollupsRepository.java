@@ -0,0 +1,128 @@
+package com.acs560.bills_analyzer.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+import com.acs560.bills_analyzer.entities.BillMonthlyRollupEntity;
+import com.acs560.bills_analyzer.entities.BillMonthlyRollupEntityId;
+import com.acs560.bills_analyzer.models.MonthRange;
+
+import jakarta.persistence.LockModeType;
+
+public interface BillMonthlyRollupsRepository extends CrudRepository<BillMonthlyRollupEntity, BillMonthlyRollupEntityId> {
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<BillMonthlyRollupEntity> findWithLockById(BillMonthlyRollupEntityId id);
+	
+	@Modifying
+	@Query("DELETE FROM BillMonthlyRollupEntity")
+	void deleteAllRollups();
+	
+	/**
+	 * Add a bill amount to its rollup, inserting the rollup of its first bill.
+	 * A single upsert, so that concurrent first bills of a company and month do not both insert the rollup.
+	 */
+	@Modifying
+	@Query(nativeQuery = true, value = """
+			INSERT INTO bill_monthly_rollups (company_id, billing_month, bill_count, amount_sum,
+				amount_sum_of_squares, min_amount, max_amount)
+			VALUES (:companyId, :month, 1, :amount, :amount * :amount, :amount, :amount)
+			ON DUPLICATE KEY UPDATE
+				bill_count = bill_count + 1,
+				amount_sum = amount_sum + :amount,
+				amount_sum_of_squares = amount_sum_of_squares + :amount * :amount,
+				min_amount = LEAST(min_amount, :amount),
+				max_amount = GREATEST(max_amount, :amount)
+			""")
+	void addAmount(int companyId, int month, double amount);
+	
+	/**
+	 * Insert or replace a rollup, in a single upsert
+	 */
+	@Modifying
+	@Query(nativeQuery = true, value = """
+			INSERT INTO bill_monthly_rollups (company_id, billing_month, bill_count, amount_sum,
+				amount_sum_of_squares, min_amount, max_amount)
+			VALUES (:companyId, :month, :billCount, :amountSum, :amountSumOfSquares, :minAmount, :maxAmount)
+			ON DUPLICATE KEY UPDATE
+				bill_count = :billCount,
+				amount_sum = :amountSum,
+				amount_sum_of_squares = :amountSumOfSquares,
+				min_amount = :minAmount,
+				max_amount = :maxAmount
+			""")
+	void upsert(int companyId, int month, long billCount, double amountSum, double amountSumOfSquares,
+			double minAmount, double maxAmount);
+	
+	default void upsert(BillMonthlyRollupEntity rollup) {
+		upsert(rollup.getId().getCompanyId(), rollup.getId().getBillingMonth(), rollup.getBillCount(),
+				rollup.getAmountSum(), rollup.getAmountSumOfSquares(), rollup.getMinAmount(), rollup.getMaxAmount());
+	}
+	
+	/**
+	 * Aggregate the rollups from the bills table
+	 */
+	@Query("""
+			SELECT new com.acs560.bills_analyzer.entities.BillMonthlyRollupEntity(
+				b.id.companyId, b.id.billingMonth, COUNT(b), SUM(b.amount),
+				SUM(b.amount * b.amount), MIN(b.amount), MAX(b.amount))
+			FROM BillEntity b
+			GROUP BY b.id.companyId, b.id.billingMonth
+			""")
+	List<BillMonthlyRollupEntity> aggregateFromBills();
+	
+	/**
+	 * Aggregate the rollup of a company and month from the bills table
+	 */
+	@Query("""
+			SELECT new com.acs560.bills_analyzer.entities.BillMonthlyRollupEntity(
+				b.id.companyId, b.id.billingMonth, COUNT(b), SUM(b.amount),
+				SUM(b.amount * b.amount), MIN(b.amount), MAX(b.amount))
+			FROM BillEntity b
+			WHERE b.id.companyId = ?1 AND b.id.billingMonth = ?2
+			GROUP BY b.id.companyId, b.id.billingMonth
+			""")
+	Optional<BillMonthlyRollupEntity> aggregateFromBills(int companyId, int month);
+	
+	@Query("""
+			SELECT SUM(r.amountSum) / SUM(r.billCount) FROM BillMonthlyRollupEntity r 
+			WHERE r.id.billingMonth = ?1
+			""")
+	Double calculateAverage(int month);
+	
+	@Query("""
+			SELECT SUM(r.amountSum) / SUM(r.billCount) FROM BillMonthlyRollupEntity r 
+			WHERE r.id.billingMonth = ?1 AND r.id.companyId = ?2
+			""")
+	Double calculateAverage(int month, int companyId);
+	
+	/**
+	 * Average over the months, see MonthRange.getQueryMonths
+	 */
+	@Query("""
+			SELECT SUM(r.amountSum) / SUM(r.billCount) FROM BillMonthlyRollupEntity r 
+			WHERE r.id.billingMonth IN ?1
+			""")
+	Double calculateAverage(Collection<Integer> months);
+	
+	@Query("""
+			SELECT SUM(r.amountSum) / SUM(r.billCount) FROM BillMonthlyRollupEntity r 
+			WHERE r.id.billingMonth IN ?1 AND r.id.companyId = ?2
+			""")
+	Double calculateAverage(Collection<Integer> months, int companyId);
+	
+	default Double calculateAverage(MonthRange months) {
+		return calculateAverage(months.getQueryMonths());
+	}
+	
+	default Double calculateAverage(MonthRange months, int companyId) {
+		return calculateAverage(months.getQueryMonths(), companyId);
+	}
+	
+}
@@ -1,47 +1,116 @@
 package com.acs560.bills_analyzer.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
 
 import com.acs560.bills_analyzer.entities.BillEntity;
 import com.acs560.bills_analyzer.entities.BillEntityId;
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.MonthRange;
 
-public interface BillsRepository extends CrudRepository<BillEntity, BillEntityId> {
+import jakarta.persistence.QueryHint;
 
-	List<BillEntity> findAllByIdCompanyId(int id);
+/**
+ * The list reads select the columns of the bills and their companies straight into Bill models,
+ * so they load no entity into the persistence context.
+ * The company of a bill entity is lazy, the entity methods used by the writes do not load it.
+ * The searches are in BillsSearchRepository.
+ */
+public interface BillsRepository extends CrudRepository<BillEntity, BillEntityId>,
+		PagingAndSortingRepository<BillEntity, BillEntityId>, BillsSearchRepository {
+
+	/**
+	 * The projection of the bills into models, the joined company is reused by a sort on company.name
+	 */
+	String SELECT_BILLS = """
+			SELECT new com.acs560.bills_analyzer.models.Bill(b.id.billingMonth, b.id.billingYear,
+				b.id.companyId, b.company.name, b.city, b.amount)
+			FROM BillEntity b
+			""";
 	
-	List<BillEntity> findAllByIdBillingMonthAndIdCompanyId(int billingMonth, int id);
+	@Query(SELECT_BILLS)
+	List<Bill> findBills(Sort sort);
 	
-	Optional<BillEntity> findAllByIdBillingMonthAndIdBillingYearAndIdCompanyId(int billingMonth, int billingYear, int id);
-
-	List<BillEntity> findAllByIdBillingMonth(int billingMonth);
+	@Query(SELECT_BILLS)
+	Slice<Bill> findBills(Pageable pageable);
+	
+	@Query(SELECT_BILLS + "WHERE b.id.billingMonth = :month AND b.id.billingYear = :year AND b.id.companyId = :companyId")
+	Optional<Bill> findBill(int month, int year, int companyId);
+	
+	@Query(SELECT_BILLS + "WHERE b.id.companyId = :companyId")
+	List<Bill> findBillsByCompany(int companyId, Sort sort);
+	
+	@Query(SELECT_BILLS + "WHERE b.id.companyId = :companyId AND b.id.billingMonth = :month")
+	List<Bill> findBillsByCompanyAndMonth(int companyId, int month, Sort sort);
 	
-	List<BillEntity> findAllByIdBillingMonthIn(Set<Integer> months);
+	@Query(SELECT_BILLS + "WHERE b.id.billingMonth = :month")
+	List<Bill> findBillsByMonth(int month, Sort sort);
 	
-	List<BillEntity> findAllByIdCompanyIdAndIdBillingMonthIn(int companyId, Set<Integer> months);
+	/**
+	 * Find the bills in the months, see MonthRange.getQueryMonths
+	 */
+	@Query(SELECT_BILLS + "WHERE b.id.billingMonth IN :months")
+	List<Bill> findBillsInMonths(Collection<Integer> months, Sort sort);
 	
-	@Query(value = """
-			SELECT AVG(amount) FROM bills WHERE billing_month = ?1
-			""", nativeQuery=true)
-	Double calculateAverage(int month);
+	default List<Bill> findBillsInMonths(MonthRange months, Sort sort) {
+		return findBillsInMonths(months.getQueryMonths(), sort);
+	}
+	
+	@Query(SELECT_BILLS + "WHERE b.id.companyId = :companyId AND b.id.billingMonth IN :months")
+	List<Bill> findBillsByCompanyInMonths(int companyId, Collection<Integer> months, Sort sort);
+	
+	default List<Bill> findBillsByCompanyInMonths(int companyId, MonthRange months, Sort sort) {
+		return findBillsByCompanyInMonths(companyId, months.getQueryMonths(), sort);
+	}
+	
+	/**
+	 * Find the bills with the ids, with a single IN query on the composite id
+	 */
+	@Query("SELECT b FROM BillEntity b WHERE b.id IN :ids")
+	List<BillEntity> findAllByIdIn(Collection<BillEntityId> ids);
+	
+	Optional<BillEntity> findAllByIdBillingMonthAndIdBillingYearAndIdCompanyId(int billingMonth, int billingYear, int id);
 	
-	@Query(value = """
-			SELECT AVG(amount) FROM bills WHERE billing_month = ?1 AND company_id = ?2
-			""", nativeQuery=true)
-	Double calculateAverage(int month, int companyId);
+	/**
+	 * Stream the amounts of the bills in the months and years.
+	 * Must be consumed inside a transaction and closed.
+	 */
+	@QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("""
+			SELECT b.amount FROM BillEntity b
+			WHERE b.id.billingMonth IN :months
+			AND b.id.billingYear BETWEEN :fromYear AND :toYear
+			""")
+	Stream<Double> streamAmounts(Collection<Integer> months, int fromYear, int toYear);
 	
-	@Query(value = """
-			SELECT AVG(amount) FROM bills WHERE billing_month in ?1
-			""", nativeQuery=true)
-	Double calculateAverage(Set<Integer> months);
+	@QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("""
+			SELECT b.amount FROM BillEntity b
+			WHERE b.id.companyId = :companyId
+			AND b.id.billingMonth IN :months
+			AND b.id.billingYear BETWEEN :fromYear AND :toYear
+			""")
+	Stream<Double> streamAmountsOfCompany(int companyId, Collection<Integer> months, int fromYear, int toYear);
 	
-	@Query(value = """
-			SELECT AVG(amount) FROM bills WHERE billing_month in ?1 AND company_id = ?2
-			""", nativeQuery=true)
-	Double calculateAverage(Set<Integer> months, int companyId);
+	/**
+	 * Stream the amounts of the bills in the months and years, for one or all companies.
+	 * Must be consumed inside a transaction and closed.
+	 * @param companyId - the company id, null for all companies
+	 */
+	default Stream<Double> streamAmounts(Integer companyId, MonthRange months, int fromYear, int toYear) {
+		return companyId == null
+				? streamAmounts(months.getQueryMonths(), fromYear, toYear)
+				: streamAmountsOfCompany(companyId, months.getQueryMonths(), fromYear, toYear);
+	}
 
 }
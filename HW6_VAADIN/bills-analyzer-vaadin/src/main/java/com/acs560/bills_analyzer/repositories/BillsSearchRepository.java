@@ -0,0 +1,31 @@
+package com.acs560.bills_analyzer.repositories;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.acs560.bills_analyzer.entities.BillEntity;
+import com.acs560.bills_analyzer.models.Bill;
+
+/**
+ * The bills searches with optional criteria, implemented with the Criteria API so that
+ * only the supplied criteria become predicates of the query.
+ * A null parameter does not filter. The name and city parameters are LIKE patterns using '\' as escape character.
+ */
+public interface BillsSearchRepository {
+
+	/**
+	 * Search the bills, projected into models
+	 */
+	Slice<Bill> searchBills(String companyName, String city, Integer month, Integer year,
+			Double minAmount, Double maxAmount, Pageable pageable);
+	
+	/**
+	 * Stream the bills matching the search, with their companies fetched in the same query.
+	 * Same criteria as searchBills, must be consumed inside a transaction and closed.
+	 */
+	Stream<BillEntity> streamSearch(String companyName, String city, Integer month, Integer year,
+			Double minAmount, Double maxAmount, Sort sort);
+}
@@ -0,0 +1,111 @@
+package com.acs560.bills_analyzer.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.acs560.bills_analyzer.entities.BillEntity;
+import com.acs560.bills_analyzer.entities.CompanyEntity;
+import com.acs560.bills_analyzer.models.Bill;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * The sorts on company.name reuse the join of the company, see QueryUtils.toOrders.
+ */
+public class BillsSearchRepositoryImpl implements BillsSearchRepository {
+
+	private static final char ESCAPE = '\\';
+	
+	@PersistenceContext
+	private EntityManager em;
+	
+	@Override
+	public Slice<Bill> searchBills(String companyName, String city, Integer month, Integer year,
+			Double minAmount, Double maxAmount, Pageable pageable) {
+		var cb = em.getCriteriaBuilder();
+		var query = cb.createQuery(Bill.class);
+		Root<BillEntity> b = query.from(BillEntity.class);
+		Join<BillEntity, CompanyEntity> c = b.join("company");
+		
+		query.select(cb.construct(Bill.class, b.get("id").get("billingMonth"), b.get("id").get("billingYear"),
+						b.get("id").get("companyId"), c.get("name"), b.get("city"), b.get("amount")))
+				.where(criteria(cb, b, c, companyName, city, month, year, minAmount, maxAmount))
+				.orderBy(QueryUtils.toOrders(pageable.getSort(), b, cb));
+		
+		var typed = em.createQuery(query);
+		
+		if (pageable.isUnpaged()) {
+			return new SliceImpl<>(typed.getResultList());
+		}
+		
+		// One more row than the page tells whether there is a next slice, without a count query
+		List<Bill> bills = typed.setFirstResult((int) pageable.getOffset())
+				.setMaxResults(pageable.getPageSize() + 1)
+				.getResultList();
+		boolean hasNext = bills.size() > pageable.getPageSize();
+		
+		return new SliceImpl<>(hasNext ? bills.subList(0, pageable.getPageSize()) : bills, pageable, hasNext);
+	}
+	
+	@Override
+	public Stream<BillEntity> streamSearch(String companyName, String city, Integer month, Integer year,
+			Double minAmount, Double maxAmount, Sort sort) {
+		var cb = em.getCriteriaBuilder();
+		var query = cb.createQuery(BillEntity.class);
+		Root<BillEntity> b = query.from(BillEntity.class);
+		@SuppressWarnings("unchecked")
+		var c = (Join<BillEntity, CompanyEntity>) b.<BillEntity, CompanyEntity>fetch("company");
+		
+		query.select(b)
+				.where(criteria(cb, b, c, companyName, city, month, year, minAmount, maxAmount))
+				.orderBy(QueryUtils.toOrders(sort, b, cb));
+		
+		return em.createQuery(query)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, 1000)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream();
+	}
+	
+	/**
+	 * The predicates of the supplied criteria
+	 */
+	private static Predicate[] criteria(CriteriaBuilder cb, Root<BillEntity> b, From<?, CompanyEntity> c,
+			String companyName, String city, Integer month, Integer year, Double minAmount, Double maxAmount) {
+		List<Predicate> predicates = new ArrayList<>(6);
+		
+		if (companyName != null) {
+			predicates.add(cb.like(c.get("name"), companyName, ESCAPE));
+		}
+		if (city != null) {
+			predicates.add(cb.like(b.get("city"), city, ESCAPE));
+		}
+		if (month != null) {
+			predicates.add(cb.equal(b.get("id").get("billingMonth"), month));
+		}
+		if (year != null) {
+			predicates.add(cb.equal(b.get("id").get("billingYear"), year));
+		}
+		if (minAmount != null) {
+			predicates.add(cb.greaterThanOrEqualTo(b.get("amount"), minAmount));
+		}
+		if (maxAmount != null) {
+			predicates.add(cb.lessThanOrEqualTo(b.get("amount"), maxAmount));
+		}
+		
+		return predicates.toArray(Predicate[]::new);
+	}
+}
@@ -2,6 +2,9 @@ package com.acs560.bills_analyzer.repositories;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.CrudRepository;
 
 import com.acs560.bills_analyzer.entities.CompanyEntity;
@@ -10,6 +13,16 @@ public interface CompaniesRepository extends CrudRepository<CompanyEntity, Integ
 
 	CompanyEntity findByName(String name);
 	
-	List<CompanyEntity> findByNameContains(String name);
+	List<CompanyEntity> findByNameContainsOrderByName(String name, Limit limit);
+	
+	/**
+	 * Find a page of the companies whose name starts with a prefix, LIKE 'prefix%' 
+	 * with the wildcards of the prefix escaped, so that the unique index on name is used.
+	 * A slice does not count the matching companies.
+	 * @param prefix - the name prefix
+	 * @param pageable - the page, sorted by name
+	 * @return - the page of companies
+	 */
+	Slice<CompanyEntity> findByNameStartingWith(String prefix, Pageable pageable);
 	
 }
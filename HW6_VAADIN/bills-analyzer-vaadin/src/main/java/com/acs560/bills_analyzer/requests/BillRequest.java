@@ -0,0 +1,53 @@
+package com.acs560.bills_analyzer.requests;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The editable fields of a bill, bound to the bill form
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class BillRequest {
+
+	@NotNull(message="Month is required")
+	@Min(value=1, message="Month must be between 1 and 12")
+	@Max(value=12, message="Month must be between 1 and 12")
+	private int month;
+	
+	@NotNull(message="Year is required")
+	@Min(value=1000, message="Year must be 4 digits")
+	@Max(value=9999, message="Year must be 4 digits")
+	private int year;
+	
+	@NotNull(message="Company is required")
+	private Company company;
+	
+	@NotNull(message="City is required")
+	@Size(min = 2, max = 50, message = "City name must be between 2 and 50 characters")
+	private String city;
+	
+	@NotNull(message="Amount is required")
+	private double amount;
+	
+	public BillRequest(Bill bill) {
+		this(bill.getMonth(), bill.getYear(), bill.getCompany(), bill.getCity(), bill.getAmount());
+	}
+	
+	public Bill toBill() {
+		return new Bill(month, year, company, city, amount);
+	}
+}
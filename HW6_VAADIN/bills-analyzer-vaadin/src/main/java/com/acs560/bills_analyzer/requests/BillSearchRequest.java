@@ -0,0 +1,39 @@
+package com.acs560.bills_analyzer.requests;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The criteria for a bills search.
+ * Every criterion is optional; a null value does not filter.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class BillSearchRequest {
+
+	/** Prefix of the company name */
+	private String companyName;
+	
+	/** Prefix of the city */
+	private String city;
+	
+	@Min(value=1, message="Month must be between 1 and 12")
+	@Max(value=12, message="Month must be between 1 and 12")
+	private Integer month;
+	
+	@Min(value=1000, message="Year must be 4 digits")
+	@Max(value=9999, message="Year must be 4 digits")
+	private Integer year;
+	
+	/** Inclusive lower bound of the amount */
+	private Double minAmount;
+	
+	/** Inclusive upper bound of the amount */
+	private Double maxAmount;
+}
@@ -0,0 +1,134 @@
+package com.acs560.bills_analyzer.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.acs560.bills_analyzer.events.ChangeType;
+import com.acs560.bills_analyzer.events.CompanyChangedEvent;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.repositories.CompaniesRepository;
+
+/**
+ * An in-memory trigram index of the company names, for the contains searches of the companies
+ * which LIKE '%filter%' answers by scanning the companies table.
+ * A company takes roughly 100 bytes here plus its name, about 10 MB for 50,000 companies.
+ * 
+ * The index is loaded at startup and kept in sync by the change events of the companies service.
+ * The searches return the companies of the index, shared by the callers as Company is immutable.
+ * Enabled by bills.companies.name-index.enabled, true by default.
+ */
+@Component
+@ConditionalOnProperty(name = "bills.companies.name-index.enabled", havingValue = "true", matchIfMissing = true)
+public class CompanyNameIndex {
+
+	private final CompaniesRepository cr;
+	
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final TrigramIndex index = new TrigramIndex();
+	private final Map<Integer, Company> companies = new HashMap<>();
+	
+	private boolean loaded;
+	
+	@Autowired
+	public CompanyNameIndex(CompaniesRepository cr) {
+		this.cr = cr;
+	}
+	
+	/**
+	 * Load all companies from the database, replacing the current content.
+	 * The companies are added by id so that the postings are appended.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		List<Company> all = new ArrayList<>();
+		cr.findAll().forEach(ce -> all.add(new Company(ce)));
+		all.sort(Comparator.comparingInt(Company::getId));
+		
+		lock.writeLock().lock();
+		
+		try {
+			index.clear();
+			companies.clear();
+			all.forEach(this::put);
+			loaded = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Apply a committed company change
+	 * @param event - the company change
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCompanyChanged(CompanyChangedEvent event) {
+		var company = event.getCompany();
+		
+		lock.writeLock().lock();
+		
+		try {
+			if (event.getType() == ChangeType.DELETED) {
+				index.remove(company.getId());
+				companies.remove(company.getId());
+			} else {
+				put(company);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	private void put(Company company) {
+		index.put(company.getId(), company.getName());
+		companies.put(company.getId(), company);
+	}
+	
+	/**
+	 * Find the best ranked companies whose name contains a filter, ignoring case.
+	 * Names starting with the filter come first, then names with a word starting with it,
+	 * then by position of the filter and length of the name.
+	 * @param filter - the filter
+	 * @param limit - the maximum number of companies
+	 * @return - the ranked companies, empty if the index is not loaded yet
+	 */
+	public Optional<List<Company>> search(String filter, int limit) {
+		lock.readLock().lock();
+		
+		try {
+			if (!loaded) {
+				return Optional.empty();
+			}
+			
+			return Optional.of(index.search(filter, limit).stream().map(companies::get).toList());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Get the number of companies in the index
+	 * @return - the number of companies
+	 */
+	public int size() {
+		lock.readLock().lock();
+		
+		try {
+			return index.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+}
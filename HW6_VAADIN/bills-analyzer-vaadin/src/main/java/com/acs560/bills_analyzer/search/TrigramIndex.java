@@ -0,0 +1,248 @@
+package com.acs560.bills_analyzer.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * An index of texts by id answering case-insensitive contains queries.
+ * Each 3 character sequence of a text maps to the sorted ids of the texts containing it,
+ * a query of 3 characters or more intersects the ids of its trigrams and then checks the candidates.
+ * Shorter queries scan all the texts.
+ * 
+ * The matches are ranked: texts starting with the query first, then the ones with a word starting
+ * with it, then by position of the match, length and text.
+ * Only the best matches up to a limit are kept, in a bounded heap, so that a query matching
+ * thousands of texts sorts the limit instead of every match.
+ * Not thread safe, see CompanyNameIndex.
+ */
+class TrigramIndex {
+
+	static final int N = 3;
+	
+	/** The lower case texts by id */
+	private final Map<Integer, String> texts = new HashMap<>();
+	private final Map<String, Postings> postings = new HashMap<>();
+	
+	/**
+	 * Add or replace the text of an id
+	 * @param id - the id
+	 * @param text - the text
+	 */
+	void put(int id, String text) {
+		remove(id);
+		
+		String lower = text.toLowerCase(Locale.ROOT);
+		texts.put(id, lower);
+		
+		for (String trigram : trigrams(lower)) {
+			postings.computeIfAbsent(trigram, t -> new Postings()).add(id);
+		}
+	}
+	
+	/**
+	 * Remove the text of an id
+	 * @param id - the id
+	 */
+	void remove(int id) {
+		String lower = texts.remove(id);
+		if (lower == null) {
+			return;
+		}
+		
+		for (String trigram : trigrams(lower)) {
+			var ids = postings.get(trigram);
+			ids.remove(id);
+			
+			if (ids.size == 0) {
+				postings.remove(trigram);
+			}
+		}
+	}
+	
+	void clear() {
+		texts.clear();
+		postings.clear();
+	}
+	
+	int size() {
+		return texts.size();
+	}
+	
+	/**
+	 * Find the texts containing a query, ignoring case
+	 * @param query - the query
+	 * @return - the ids of all the matching texts, ranked
+	 */
+	List<Integer> search(String query) {
+		return search(query, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Find the best ranked texts containing a query, ignoring case
+	 * @param query - the query
+	 * @param limit - the maximum number of ids
+	 * @return - the ids of the best matching texts, ranked, none when the limit is below 1
+	 */
+	List<Integer> search(String query, int limit) {
+		if (limit < 1) {
+			return List.of();
+		}
+		
+		String q = query.toLowerCase(Locale.ROOT);
+		// The worst kept match on top, replaced by any better one once the limit is reached
+		PriorityQueue<Match> best = new PriorityQueue<>(RANK.reversed());
+		
+		if (q.length() < N) {
+			texts.forEach((id, text) -> match(id, text, q, best, limit));
+		} else {
+			for (int id : candidates(q)) {
+				match(id, texts.get(id), q, best, limit);
+			}
+		}
+		
+		List<Match> matches = new ArrayList<>(best);
+		matches.sort(RANK);
+		return matches.stream().map(Match::id).toList();
+	}
+	
+	/**
+	 * A text containing the query, with its rank keys
+	 * @param kind - 0 if the text starts with the query, 1 if a word of the text does, 2 otherwise
+	 */
+	private record Match(int id, String text, int kind, int position) {}
+	
+	private static final Comparator<Match> RANK = Comparator.comparingInt(Match::kind)
+			.thenComparingInt(Match::position)
+			.thenComparingInt(m -> m.text().length())
+			.thenComparing(Match::text);
+	
+	private static void match(int id, String text, String q, PriorityQueue<Match> best, int limit) {
+		int position = text.indexOf(q);
+		if (position < 0) {
+			return;
+		}
+		
+		int kind = 2;
+		if (position == 0) {
+			kind = 0;
+		} else {
+			for (int i = position; i >= 0; i = text.indexOf(q, i + 1)) {
+				if (!Character.isLetterOrDigit(text.charAt(i - 1))) {
+					kind = 1;
+					break;
+				}
+			}
+		}
+		
+		var match = new Match(id, text, kind, position);
+		
+		if (best.size() < limit) {
+			best.add(match);
+		} else if (RANK.compare(match, best.peek()) < 0) {
+			best.poll();
+			best.add(match);
+		}
+	}
+	
+	/**
+	 * Get the ids of the texts containing all the trigrams of a query, 
+	 * merging the sorted postings from the rarest trigram
+	 */
+	private int[] candidates(String q) {
+		List<Postings> lists = new ArrayList<>();
+		
+		for (String trigram : trigrams(q)) {
+			var ids = postings.get(trigram);
+			if (ids == null) {
+				return new int[0];
+			}
+			lists.add(ids);
+		}
+		lists.sort(Comparator.comparingInt(p -> p.size));
+		
+		var rarest = lists.get(0);
+		int[] result = Arrays.copyOf(rarest.ids, rarest.size);
+		int count = rarest.size;
+		
+		for (int l = 1; l < lists.size() && count > 0; l++) {
+			count = lists.get(l).retain(result, count);
+		}
+		
+		return Arrays.copyOf(result, count);
+	}
+	
+	/**
+	 * Get the distinct trigrams of a lower case text
+	 */
+	static Set<String> trigrams(String text) {
+		Set<String> trigrams = new LinkedHashSet<>();
+		
+		for (int i = 0; i + N <= text.length(); i++) {
+			trigrams.add(text.substring(i, i + N));
+		}
+		return trigrams;
+	}
+	
+	/**
+	 * The sorted ids of the texts containing a trigram, in a growable array.
+	 * Ids mostly come in ascending order, which appends.
+	 */
+	private static class Postings {
+		
+		private int[] ids = new int[4];
+		private int size;
+		
+		void add(int id) {
+			int position = Arrays.binarySearch(ids, 0, size, id);
+			if (position >= 0) {
+				return;
+			}
+			position = -position - 1;
+			
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			System.arraycopy(ids, position, ids, position + 1, size - position);
+			ids[position] = id;
+			size++;
+		}
+		
+		void remove(int id) {
+			int position = Arrays.binarySearch(ids, 0, size, id);
+			if (position < 0) {
+				return;
+			}
+			System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+			size--;
+		}
+		
+		/**
+		 * Keep the sorted ids which are also in these postings, in a single pass over both
+		 * @param sorted - the sorted ids, compacted in place
+		 * @param count - the number of ids
+		 * @return - the number of ids kept
+		 */
+		int retain(int[] sorted, int count) {
+			int kept = 0;
+			int j = 0;
+			
+			for (int i = 0; i < count && j < size; i++) {
+				while (j < size && ids[j] < sorted[i]) {
+					j++;
+				}
+				if (j < size && ids[j] == sorted[i]) {
+					sorted[kept++] = sorted[i];
+				}
+			}
+			return kept;
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package com.acs560.bills_analyzer.security;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,6 +26,10 @@ public class SecurityConfig extends VaadinWebSecurity {
         http.authorizeHttpRequests(auth ->
                 auth.requestMatchers(
                     AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/images/*.png")).permitAll());  // <3>
+        // The actuator port is bound to the loopback address, for the scrapes of a local Prometheus
+        http.authorizeHttpRequests(auth ->
+                auth.requestMatchers(
+                    EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll());
         super.configure(http);
         setLoginView(http, LoginView.class);
     }
@@ -0,0 +1,55 @@
+package com.acs560.bills_analyzer.services;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.acs560.bills_analyzer.entities.BillMonthlyRollupEntityId;
+
+/**
+ * Interface for the pre-aggregated monthly bill rollups
+ */
+public interface BillRollupsService {
+
+	/**
+	 * Add a new bill to its rollup
+	 * @param companyId - the company id
+	 * @param month - the month
+	 * @param amount - the amount of the bill
+	 */
+	void billAdded(int companyId, int month, double amount);
+	
+	/**
+	 * Replace the amount of an existing bill in its rollup
+	 * @param companyId - the company id
+	 * @param month - the month
+	 * @param oldAmount - the amount before the update
+	 * @param newAmount - the amount after the update
+	 */
+	void billUpdated(int companyId, int month, double oldAmount, double newAmount);
+	
+	/**
+	 * Remove a deleted bill from its rollup
+	 * @param companyId - the company id
+	 * @param month - the month
+	 * @param amount - the amount of the bill
+	 */
+	void billDeleted(int companyId, int month, double amount);
+	
+	/**
+	 * Recompute some rollups from the bills table, e.g. after a batch of changes
+	 * @param ids - the ids of the rollups to recompute
+	 */
+	void refresh(Collection<BillMonthlyRollupEntityId> ids);
+	
+	/**
+	 * Rebuild all rollups from the bills table, on demand or at startup when there are none
+	 */
+	void rebuild();
+	
+	/**
+	 * Compare the rollups with the bills table
+	 * @return - the ids of the rollups that are missing, stale or orphaned
+	 */
+	List<BillMonthlyRollupEntityId> findInconsistencies();
+	
+}
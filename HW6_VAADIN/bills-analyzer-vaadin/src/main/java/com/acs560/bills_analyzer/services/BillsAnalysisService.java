@@ -1,5 +1,7 @@
 package com.acs560.bills_analyzer.services;
 
+import com.acs560.bills_analyzer.models.BillStatistics;
+
 public interface BillsAnalysisService {
 
 	double calculateAverageForMonth(int companyId, int month);
@@ -10,4 +12,27 @@ public interface BillsAnalysisService {
 	
 	double calculateAverageForMonthRange(int month, int monthRange);
 	
+	/**
+	 * Calculate count, sum, mean, min, max, variance and percentiles
+	 * of the bills of all companies in one pass
+	 * @param month - the center month
+	 * @param monthRange - the number of months before and after the month
+	 * @param fromYear - the first year, inclusive
+	 * @param toYear - the last year, inclusive
+	 * @return - the statistics
+	 */
+	BillStatistics calculateStatistics(int month, int monthRange, int fromYear, int toYear);
+	
+	/**
+	 * Calculate count, sum, mean, min, max, variance and percentiles
+	 * of the bills of a company in one pass
+	 * @param companyId - the company id
+	 * @param month - the center month
+	 * @param monthRange - the number of months before and after the month
+	 * @param fromYear - the first year, inclusive
+	 * @param toYear - the last year, inclusive
+	 * @return - the statistics
+	 */
+	BillStatistics calculateStatistics(int companyId, int month, int monthRange, int fromYear, int toYear);
+	
 }
@@ -0,0 +1,22 @@
+package com.acs560.bills_analyzer.services;
+
+import java.io.Writer;
+
+import com.acs560.bills_analyzer.requests.BillSearchRequest;
+
+/**
+ * Interface for exporting bills in bulk
+ */
+public interface BillsExportService {
+
+	/**
+	 * Export the bills matching the search as a CSV with the header month,year,company,city,amount,
+	 * the same format accepted by the import. The bills are streamed from the database
+	 * and written as they are read, so the memory used does not depend on the number of bills.
+	 * @param search - the search criteria
+	 * @param csv - the writer of the CSV content, flushed but not closed by this method
+	 * @return - the number of bills exported
+	 */
+	long exportBills(BillSearchRequest search, Writer csv);
+	
+}
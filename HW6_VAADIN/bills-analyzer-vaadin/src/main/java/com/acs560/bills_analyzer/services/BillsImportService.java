@@ -0,0 +1,21 @@
+package com.acs560.bills_analyzer.services;
+
+import java.io.Reader;
+
+import com.acs560.bills_analyzer.models.BillsImportResult;
+
+/**
+ * Interface for importing bills in bulk
+ */
+public interface BillsImportService {
+
+	/**
+	 * Import bills from a CSV with the header month,year,company,city,amount.
+	 * The rows are streamed, the company is matched by name, and rows that are
+	 * invalid or already exist are rejected without failing the import.
+	 * @param csv - the CSV content, not closed by this method
+	 * @return - the accepted and rejected rows
+	 */
+	BillsImportResult importBills(Reader csv);
+	
+}
@@ -3,7 +3,11 @@ package com.acs560.bills_analyzer.services;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
 import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.BillOutcome;
+import com.acs560.bills_analyzer.requests.BillSearchRequest;
 
 import jakarta.validation.Valid;
 
@@ -27,6 +31,26 @@ public interface BillsService {
 	 */
 	List<Bill> getBills();
 	
+	/**
+	 * Get a single page of bills, sorted on the database side.
+	 * Unsorted requests are ordered by year, month and company name.
+	 * Sortable properties are the BillEntity paths, e.g. id.billingYear,
+	 * id.billingMonth, company.name, city and amount.
+	 * @param pageable - the page and sort to fetch
+	 * @return - the bills on the page, empty past the last page
+	 */
+	List<Bill> getBills(Pageable pageable);
+	
+	/**
+	 * Search a page of bills in the database.
+	 * Company name and city match by prefix, month and year exactly,
+	 * and the amount by an inclusive range.
+	 * @param search - the search criteria, null criteria do not filter
+	 * @param pageable - the page and sort to fetch
+	 * @return - the matching bills on the page, empty past the last page
+	 */
+	List<Bill> searchBills(@Valid BillSearchRequest search, Pageable pageable);
+	
 	/**
 	 * Get the bills filtered by company
 	 * @param companyId - the company Id
@@ -45,6 +69,30 @@ public interface BillsService {
 	Bill add(@Valid Bill bill);
 	boolean delete(@Valid Bill bill);
 	Bill update(@Valid Bill bill);
+	
+	/**
+	 * Add a batch of bills in one transaction.
+	 * Existing bills are found with one query and the new ones are inserted in JDBC batches.
+	 * @param bills - the bills to add
+	 * @return - the outcome of each bill, in the order of the bills
+	 */
+	List<BillOutcome> addAll(List<@Valid Bill> bills);
+	
+	/**
+	 * Update a batch of bills in one transaction.
+	 * Existing bills are found with one query and updated in JDBC batches.
+	 * @param bills - the bills to update
+	 * @return - the outcome of each bill, in the order of the bills
+	 */
+	List<BillOutcome> updateAll(List<@Valid Bill> bills);
+	
+	/**
+	 * Delete a batch of bills in one transaction.
+	 * Existing bills are found with one query and deleted in JDBC batches.
+	 * @param bills - the bills to delete
+	 * @return - the outcome of each bill, in the order of the bills
+	 */
+	List<BillOutcome> deleteAll(List<@Valid Bill> bills);
 
 	List<Bill> getBillsByMonth(int month);
 	
@@ -3,6 +3,9 @@ package com.acs560.bills_analyzer.services;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
+import com.acs560.bills_analyzer.models.CompaniesSnapshot;
 import com.acs560.bills_analyzer.models.Company;
 import com.acs560.bills_analyzer.requests.CompanyRequest;
 
@@ -11,10 +14,30 @@ import jakarta.validation.Valid;
 public interface CompaniesService {
 
 	List<Company> getCompanies();
+	
+	/**
+	 * Get the companies whose name contains a filter, at most bills.companies.filter.max-results
+	 * @param filter - the filter
+	 * @return - the best ranked companies when the name index is enabled, otherwise by name
+	 */
 	List<Company> getCompanies(String filter);
 	
+	/**
+	 * Get a page of the companies whose name starts with a prefix, sorted by name
+	 * @param prefix - the name prefix, empty for all the companies
+	 * @param pageable - the page
+	 * @return - the companies of the page
+	 */
+	List<Company> getCompanies(String prefix, Pageable pageable);
+	
 	Optional<Company> getCompany(int id);
 	
+	/**
+	 * Get all the companies with their id and name indexes
+	 * @return - the snapshot, shared by all the callers when cached
+	 */
+	CompaniesSnapshot getSnapshot();
+	
 	Company addCompany(@Valid CompanyRequest c);
 	Company updateCompany(int id, CompanyRequest c);
 	boolean deleteCompany(int id);
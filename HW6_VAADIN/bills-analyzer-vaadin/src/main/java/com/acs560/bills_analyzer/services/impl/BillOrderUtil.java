@@ -0,0 +1,120 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+import com.acs560.bills_analyzer.models.Bill;
+
+/**
+ * Sorts bills in their natural order with primitive sort keys.
+ * Each bill is packed in a long as year, month, company rank and list index,
+ * from the most to the least significant bits, so the bills are ordered 
+ * by one primitive sort instead of a comparator call per comparison.
+ */
+public class BillOrderUtil {
+
+	private static final int INDEX_BITS = 24;
+	private static final int RANK_BITS = 21;
+	private static final int MONTH_BITS = 4;
+	private static final int YEAR_BITS = 14;
+	
+	private static final int RANK_SHIFT = INDEX_BITS;
+	private static final int MONTH_SHIFT = RANK_SHIFT + RANK_BITS;
+	private static final int YEAR_SHIFT = MONTH_SHIFT + MONTH_BITS;
+	
+	private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+	
+	/**
+	 * Check if the bills are in their natural order, e.g. as returned by the database
+	 * @param bills - the bills
+	 * @return - true if the bills are sorted
+	 */
+	public static boolean isSorted(List<Bill> bills) {
+		Bill previous = null;
+		
+		for (Bill bill : bills) {
+			if (previous != null && Bill.ORDER.compare(previous, bill) > 0) {
+				return false;
+			}
+			
+			previous = bill;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Sort the bills in their natural order, stable like List.sort.
+	 * Falls back to List.sort when a value does not fit in its bits.
+	 * @param bills - the bills to sort in place
+	 */
+	public static void sort(List<Bill> bills) {
+		if (bills.size() > INDEX_MASK + 1) {
+			bills.sort(Bill.ORDER);
+			return;
+		}
+		
+		var ranks = rankCompanies(bills);
+		long[] keys = new long[bills.size()];
+		int index = 0;
+		
+		for (Bill bill : bills) {
+			int year = bill.getYear();
+			int month = bill.getMonth();
+			
+			if (ranks == null || year >>> YEAR_BITS != 0 || month >>> MONTH_BITS != 0) {
+				bills.sort(Bill.ORDER);
+				return;
+			}
+			
+			keys[index] = (long) year << YEAR_SHIFT
+					| (long) month << MONTH_SHIFT
+					| (long) ranks.get(bill.getCompany().getName()) << RANK_SHIFT
+					| index;
+			index++;
+		}
+		
+		Arrays.sort(keys);
+		
+		Bill[] sorted = new Bill[keys.length];
+		
+		for (int i = 0; i < keys.length; i++) {
+			sorted[i] = bills.get((int) (keys[i] & INDEX_MASK));
+		}
+		
+		ListIterator<Bill> iterator = bills.listIterator();
+		
+		for (Bill bill : sorted) {
+			iterator.next();
+			iterator.set(bill);
+		}
+	}
+	
+	/**
+	 * Rank the distinct company names of the bills in their natural order
+	 * @return - the rank by name, or null if there are too many companies
+	 */
+	private static Map<String, Integer> rankCompanies(List<Bill> bills) {
+		Map<String, Integer> ranks = new HashMap<>();
+		
+		for (Bill bill : bills) {
+			ranks.putIfAbsent(bill.getCompany().getName(), 0);
+		}
+		
+		if (ranks.size() >>> RANK_BITS != 0) {
+			return null;
+		}
+		
+		String[] names = ranks.keySet().toArray(String[]::new);
+		Arrays.sort(names);
+		
+		for (int rank = 0; rank < names.length; rank++) {
+			ranks.put(names[rank], rank);
+		}
+		
+		return ranks;
+	}
+}
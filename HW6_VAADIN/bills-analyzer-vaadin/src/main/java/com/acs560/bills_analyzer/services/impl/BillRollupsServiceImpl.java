@@ -0,0 +1,142 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.acs560.bills_analyzer.entities.BillMonthlyRollupEntity;
+import com.acs560.bills_analyzer.entities.BillMonthlyRollupEntityId;
+import com.acs560.bills_analyzer.repositories.BillMonthlyRollupsRepository;
+import com.acs560.bills_analyzer.services.BillRollupsService;
+
+/**
+ * The bill rollups service implementation
+ */
+@Service
+public class BillRollupsServiceImpl implements BillRollupsService {
+
+	private static final double TOLERANCE = 1e-9;
+	
+	private BillMonthlyRollupsRepository rr;
+	
+	@Autowired
+	public BillRollupsServiceImpl(BillMonthlyRollupsRepository rr) {
+		this.rr = rr;
+	}
+	
+	@Override
+	@Transactional
+	public void billAdded(int companyId, int month, double amount) {
+		rr.addAmount(companyId, month, amount);
+	}
+
+	@Override
+	@Transactional
+	public void billUpdated(int companyId, int month, double oldAmount, double newAmount) {
+		var id = new BillMonthlyRollupEntityId(companyId, month);
+		var rollup = rr.findWithLockById(id);
+		
+		if (rollup.isEmpty() || rollup.get().isBound(oldAmount)) {
+			refresh(companyId, month);
+		} else {
+			rollup.get().remove(oldAmount);
+			rollup.get().add(newAmount);
+			rr.save(rollup.get());
+		}
+	}
+
+	@Override
+	@Transactional
+	public void billDeleted(int companyId, int month, double amount) {
+		var id = new BillMonthlyRollupEntityId(companyId, month);
+		var rollup = rr.findWithLockById(id);
+		
+		if (rollup.isEmpty() || rollup.get().isBound(amount)) {
+			refresh(companyId, month);
+		} else {
+			rollup.get().remove(amount);
+			rr.save(rollup.get());
+		}
+	}
+	
+	@Override
+	@Transactional
+	public void refresh(Collection<BillMonthlyRollupEntityId> ids) {
+		ids.forEach(id -> refresh(id.getCompanyId(), id.getBillingMonth()));
+	}
+	
+	/**
+	 * Build the rollups at startup when there are none, e.g. on a new database.
+	 * Existing rollups are kept, drifted ones are repaired by checkAndRepair.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void rebuildIfEmpty() {
+		if (rr.count() == 0) {
+			rebuild();
+		}
+	}
+	
+	@Override
+	@Transactional
+	public void rebuild() {
+		rr.deleteAllRollups();
+		rr.saveAll(rr.aggregateFromBills());
+	}
+	
+	/**
+	 * Check the rollups periodically and rebuild them when they drifted
+	 */
+	@Scheduled(cron = "${bills.rollups.check-cron:0 0 3 * * *}")
+	@Transactional
+	public void checkAndRepair() {
+		if (!findInconsistencies().isEmpty()) {
+			rebuild();
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<BillMonthlyRollupEntityId> findInconsistencies() {
+		Map<BillMonthlyRollupEntityId, BillMonthlyRollupEntity> expected = new HashMap<>();
+		rr.aggregateFromBills().forEach(r -> expected.put(r.getId(), r));
+		
+		List<BillMonthlyRollupEntityId> inconsistencies = new ArrayList<>();
+		
+		for (var actual : rr.findAll()) {
+			var rollup = expected.remove(actual.getId());
+			
+			if (rollup == null || !rollup.matches(actual, TOLERANCE)) {
+				inconsistencies.add(actual.getId());
+			}
+		}
+		
+		inconsistencies.addAll(expected.keySet());
+		
+		return inconsistencies;
+	}
+	
+	/**
+	 * Recompute one rollup from the bills table, upserted as it may have no row yet
+	 * @param companyId - the company id
+	 * @param month - the month
+	 */
+	private void refresh(int companyId, int month) {
+		var rollup = rr.aggregateFromBills(companyId, month);
+		
+		if (rollup.isPresent()) {
+			rr.upsert(rollup.get());
+		} else {
+			rr.deleteById(new BillMonthlyRollupEntityId(companyId, month));
+		}
+	}
+}
@@ -0,0 +1,188 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+
+import com.acs560.bills_analyzer.models.BillStatistics;
+
+/**
+ * A mergeable, single pass accumulator of bill amounts.
+ * 
+ * Mean and variance are tracked with Welford's algorithm and combined with
+ * Chan's parallel formula, so partial results from different partitions can
+ * be merged without losing precision. Percentiles come from a log-bucketed
+ * histogram with a bounded relative error, which also merges by adding counts.
+ * 
+ * Usable as a collector: stream.collect(BillStatisticsAccumulator::new,
+ * BillStatisticsAccumulator::accept, BillStatisticsAccumulator::merge)
+ */
+public class BillStatisticsAccumulator implements DoubleConsumer {
+
+	/** The relative error of the percentiles */
+	static final double RELATIVE_ACCURACY = 0.01;
+	
+	private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+	private static final double LOG_GAMMA = Math.log(GAMMA);
+	
+	private long count;
+	private double mean;
+	private double m2;
+	private double sum;
+	private double min = Double.POSITIVE_INFINITY;
+	private double max = Double.NEGATIVE_INFINITY;
+	
+	private long zeroCount;
+	private final Buckets positive = new Buckets();
+	private final Buckets negative = new Buckets();
+	
+	@Override
+	public void accept(double amount) {
+		count++;
+		sum += amount;
+		
+		double delta = amount - mean;
+		mean += delta / count;
+		m2 += delta * (amount - mean);
+		
+		min = Math.min(min, amount);
+		max = Math.max(max, amount);
+		
+		if (amount > 0) {
+			positive.increment(bucketOf(amount), 1);
+		} else if (amount < 0) {
+			negative.increment(bucketOf(-amount), 1);
+		} else {
+			zeroCount++;
+		}
+	}
+	
+	/**
+	 * Merge another accumulator into this one
+	 * @param other - the accumulator to merge
+	 * @return - this accumulator
+	 */
+	public BillStatisticsAccumulator merge(BillStatisticsAccumulator other) {
+		if (other.count == 0) {
+			return this;
+		}
+		
+		long total = count + other.count;
+		double delta = other.mean - mean;
+		
+		mean += delta * other.count / total;
+		m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+		count = total;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+		
+		zeroCount += other.zeroCount;
+		positive.merge(other.positive);
+		negative.merge(other.negative);
+		
+		return this;
+	}
+	
+	/**
+	 * Get the number of accumulated amounts
+	 * @return - the count
+	 */
+	public long getCount() {
+		return count;
+	}
+	
+	/**
+	 * Create the statistics of the accumulated amounts
+	 * @return - the statistics
+	 * @throws NoSuchElementException when nothing was accumulated
+	 */
+	public BillStatistics toStatistics() throws NoSuchElementException {
+		if (count == 0) {
+			throw new NoSuchElementException("No bills to calculate statistics");
+		}
+		
+		return new BillStatistics(count, sum, mean, min, max, m2 / count,
+				percentile(0.50), percentile(0.95), percentile(0.99));
+	}
+	
+	/**
+	 * Approximate a percentile from the histogram
+	 * @param quantile - the quantile between 0 and 1
+	 * @return - the approximated value, clamped to [min, max]
+	 */
+	double percentile(double quantile) {
+		long rank = (long) Math.floor(quantile * (count - 1));
+		double value;
+		
+		if (rank < negative.total) {
+			value = -valueOf(negative.indexOfRank(negative.total - 1 - rank));
+		} else if (rank < negative.total + zeroCount) {
+			value = 0;
+		} else {
+			value = valueOf(positive.indexOfRank(rank - negative.total - zeroCount));
+		}
+		
+		return Math.max(min, Math.min(max, value));
+	}
+	
+	private static int bucketOf(double magnitude) {
+		return (int) Math.ceil(Math.log(magnitude) / LOG_GAMMA);
+	}
+	
+	private static double valueOf(int bucket) {
+		return 2 * Math.pow(GAMMA, bucket) / (GAMMA + 1);
+	}
+	
+	/**
+	 * Dense counts of contiguous bucket indexes, grown on demand
+	 */
+	private static class Buckets {
+		
+		private long[] counts = new long[0];
+		private int offset;
+		private long total;
+		
+		void increment(int index, long by) {
+			ensureCapacity(index);
+			counts[index - offset] += by;
+			total += by;
+		}
+		
+		void merge(Buckets other) {
+			for (int i = 0; i < other.counts.length; i++) {
+				if (other.counts[i] != 0) {
+					increment(i + other.offset, other.counts[i]);
+				}
+			}
+		}
+		
+		int indexOfRank(long rank) {
+			long seen = 0;
+			
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen > rank) {
+					return i + offset;
+				}
+			}
+			
+			throw new IllegalStateException("Rank exceeds the bucket counts");
+		}
+		
+		private void ensureCapacity(int index) {
+			if (counts.length == 0) {
+				counts = new long[16];
+				offset = index;
+			} else if (index < offset) {
+				int shift = Math.max(offset - index, counts.length / 2);
+				long[] grown = new long[counts.length + shift];
+				System.arraycopy(counts, 0, grown, shift, counts.length);
+				counts = grown;
+				offset -= shift;
+			} else if (index - offset >= counts.length) {
+				counts = Arrays.copyOf(counts, Math.max(index - offset + 1, counts.length * 2));
+			}
+		}
+	}
+}
@@ -1,10 +1,17 @@
 package com.acs560.bills_analyzer.services.impl;
 
 import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.acs560.bills_analyzer.columnar.BillColumnStore;
+import com.acs560.bills_analyzer.models.BillStatistics;
+import com.acs560.bills_analyzer.models.MonthRange;
+import com.acs560.bills_analyzer.repositories.BillMonthlyRollupsRepository;
 import com.acs560.bills_analyzer.repositories.BillsRepository;
 import com.acs560.bills_analyzer.services.BillsAnalysisService;
 
@@ -12,15 +19,27 @@ import com.acs560.bills_analyzer.services.BillsAnalysisService;
 public class BillsAnalysisServiceImpl implements BillsAnalysisService {
 
 	private BillsRepository br;
+	private BillMonthlyRollupsRepository rr;
+	private BillColumnStore columns;
 	
+	/**
+	 * Averages are answered from the monthly rollups, 
+	 * i.e. at most 12 rows per company instead of the bills.
+	 * When the columnar store is enabled, averages and statistics are computed from it instead.
+	 */
 	@Autowired
-	public BillsAnalysisServiceImpl(BillsRepository br) {
+	public BillsAnalysisServiceImpl(BillsRepository br, BillMonthlyRollupsRepository rr,
+			ObjectProvider<BillColumnStore> columns) {
 		this.br = br;
+		this.rr = rr;
+		this.columns = columns.getIfAvailable();
 	}
 	
 	@Override
 	public double calculateAverageForMonth(int companyId, int month) throws NoSuchElementException {
-		var average = br.calculateAverage(month, companyId);
+		var average = columns != null
+				? boxed(columns.average(companyId, MonthRange.of(month)))
+				: rr.calculateAverage(month, companyId);
 		
 		if (average == null) {
 			throw new NoSuchElementException("No bills exist for month");
@@ -40,8 +59,10 @@ public class BillsAnalysisServiceImpl implements BillsAnalysisService {
 	 */
 	@Override
 	public double calculateAverage(int companyId, int month, int range) {
-		var months = MonthRangeUtil.getRange(month, range);
-		var average = br.calculateAverage(months, companyId);
+		var months = MonthRange.of(month, range);
+		var average = columns != null
+				? boxed(columns.average(companyId, months))
+				: rr.calculateAverage(months, companyId);
 		
 		if (average == null) {
 			throw new NoSuchElementException("No bills exist for name, month, and range");
@@ -52,7 +73,9 @@ public class BillsAnalysisServiceImpl implements BillsAnalysisService {
 	
 	@Override
 	public double calculateAverage(int month) {
-		var average = br.calculateAverage(month);
+		var average = columns != null
+				? boxed(columns.average(null, MonthRange.of(month)))
+				: rr.calculateAverage(month);
 		
 		if (average == null) {
 			throw new NoSuchElementException("No bills exist for month");
@@ -63,8 +86,10 @@ public class BillsAnalysisServiceImpl implements BillsAnalysisService {
 
 	@Override
 	public double calculateAverageForMonthRange(int month, int range) {	
-		var months = MonthRangeUtil.getRange(month, range);
-		var average = br.calculateAverage(months);
+		var months = MonthRange.of(month, range);
+		var average = columns != null
+				? boxed(columns.average(null, months))
+				: rr.calculateAverage(months);
 		
 		if (average == null) {
 			throw new NoSuchElementException("No bills exist for month and range");
@@ -72,4 +97,43 @@ public class BillsAnalysisServiceImpl implements BillsAnalysisService {
 		
 		return average;
 	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BillStatistics calculateStatistics(int month, int range, int fromYear, int toYear) {
+		return streamStatistics(null, month, range, fromYear, toYear);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BillStatistics calculateStatistics(int companyId, int month, int range, int fromYear, int toYear) {
+		return streamStatistics(companyId, month, range, fromYear, toYear);
+	}
+	
+	private BillStatistics streamStatistics(Integer companyId, int month, int range, int fromYear, int toYear) {
+		if (fromYear > toYear) {
+			throw new IllegalArgumentException("From year must not be after to year");
+		}
+		
+		var months = MonthRange.of(month, range);
+		
+		if (columns != null) {
+			return columns.aggregate(companyId, months, fromYear, toYear, 
+					BillStatisticsAccumulator::new, BillStatisticsAccumulator::merge).toStatistics();
+		}
+		
+		try (var amounts = br.streamAmounts(companyId, months, fromYear, toYear)) {
+			var accumulator = amounts
+					.mapToDouble(Double::doubleValue)
+					.collect(BillStatisticsAccumulator::new, 
+							BillStatisticsAccumulator::accept, 
+							BillStatisticsAccumulator::merge);
+			
+			return accumulator.toStatistics();
+		}
+	}
+	
+	private static Double boxed(OptionalDouble average) {
+		return average.isPresent() ? average.getAsDouble() : null;
+	}
 }
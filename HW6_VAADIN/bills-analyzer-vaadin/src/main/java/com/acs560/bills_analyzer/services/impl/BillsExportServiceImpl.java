@@ -0,0 +1,72 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.acs560.bills_analyzer.repositories.BillsRepository;
+import com.acs560.bills_analyzer.requests.BillSearchRequest;
+import com.acs560.bills_analyzer.services.BillsExportService;
+import com.opencsv.CSVWriter;
+import com.opencsv.ICSVWriter;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * The bills export service implementation.
+ * Each bill is detached from the persistence context once written,
+ * so neither the context nor the output grows with the result set.
+ */
+@Service
+public class BillsExportServiceImpl implements BillsExportService {
+
+	private static final String[] HEADER = {"month", "year", "company", "city", "amount"};
+	
+	private BillsRepository br;
+	private EntityManager em;
+	
+	@Autowired
+	public BillsExportServiceImpl(BillsRepository br, EntityManager em) {
+		this.br = br;
+		this.em = em;
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public long exportBills(BillSearchRequest search, Writer csv) {
+		long exported = 0;
+		
+		ICSVWriter writer = new CSVWriter(csv);
+		writer.writeNext(HEADER, false);
+		
+		try (var bills = br.streamSearch(BillsServiceImpl.toPrefixPattern(search.getCompanyName()), 
+				BillsServiceImpl.toPrefixPattern(search.getCity()), search.getMonth(), search.getYear(), 
+				search.getMinAmount(), search.getMaxAmount(), BillsServiceImpl.DEFAULT_SORT)) {
+			var iterator = bills.iterator();
+			
+			while (iterator.hasNext()) {
+				var be = iterator.next();
+				writer.writeNext(new String[] {
+						String.valueOf(be.getId().getBillingMonth()),
+						String.valueOf(be.getId().getBillingYear()),
+						be.getCompany().getName(),
+						be.getCity(),
+						String.valueOf(be.getAmount())
+				}, false);
+				em.detach(be);
+				exported++;
+			}
+		}
+		
+		// Flushes the writer, which swallows write errors until asked for them
+		if (writer.checkError()) {
+			throw new UncheckedIOException(writer.getException());
+		}
+		
+		return exported;
+	}
+	
+}
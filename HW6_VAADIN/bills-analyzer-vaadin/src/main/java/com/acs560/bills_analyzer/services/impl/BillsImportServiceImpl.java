@@ -0,0 +1,259 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.acs560.bills_analyzer.entities.BillEntity;
+import com.acs560.bills_analyzer.entities.BillEntityId;
+import com.acs560.bills_analyzer.entities.BillMonthlyRollupEntityId;
+import com.acs560.bills_analyzer.entities.CompanyEntity;
+import com.acs560.bills_analyzer.events.BillsBulkChangedEvent;
+import com.acs560.bills_analyzer.events.ChangeType;
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.BillsImportResult;
+import com.acs560.bills_analyzer.models.CompaniesSnapshot;
+import com.acs560.bills_analyzer.repositories.BillsRepository;
+import com.acs560.bills_analyzer.services.BillRollupsService;
+import com.acs560.bills_analyzer.services.BillsImportService;
+import com.acs560.bills_analyzer.services.CompaniesService;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validator;
+
+/**
+ * The bills import service implementation.
+ * Rows are validated one at a time and written in JDBC batches,
+ * one transaction per batch, so memory stays bounded by the batch size.
+ * Existing bills are only looked up for batches that fail on a duplicate key.
+ * Each committed batch is published with its bills as a BillsBulkChangedEvent.
+ * The rollups of the company months the import added bills to are recomputed at its end.
+ */
+@Service
+public class BillsImportServiceImpl implements BillsImportService {
+
+	private static final int MAX_REJECTIONS = 100;
+	private static final int COLUMNS = 5;
+	
+	private BillsRepository br;
+	private CompaniesService companiesService;
+	private BillRollupsService rollups;
+	private EntityManager em;
+	private TransactionTemplate transaction;
+	private Validator validator;
+	private ApplicationEventPublisher events;
+	private int batchSize;
+	
+	@Autowired
+	public BillsImportServiceImpl(BillsRepository br, CompaniesService companiesService, BillRollupsService rollups,
+			EntityManager em, PlatformTransactionManager transactionManager, Validator validator,
+			ApplicationEventPublisher events, @Value("${bills.import.batch-size:1000}") int batchSize) {
+		this.br = br;
+		this.companiesService = companiesService;
+		this.rollups = rollups;
+		this.em = em;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.validator = validator;
+		this.events = events;
+		this.batchSize = batchSize;
+	}
+	
+	@Override
+	public BillsImportResult importBills(Reader csv) {
+		var companies = companiesService.getSnapshot();
+		
+		var result = new Result();
+		List<Row> batch = new ArrayList<>(batchSize);
+		
+		// The event of the last written batch is published after the rollups, 
+		// so that the listeners evicting the analysis see the final rollups
+		BillsBulkChangedEvent pending = null;
+		
+		try (CSVReader reader = new CSVReaderBuilder(csv).withSkipLines(1).build()) {
+			String[] values;
+			
+			while ((values = reader.readNext()) != null) {
+				long line = reader.getLinesRead();
+				var bill = parse(values, companies, line, result);
+				
+				if (bill != null) {
+					batch.add(new Row(line, bill));
+				}
+				
+				if (batch.size() == batchSize) {
+					pending = publish(pending, write(batch, result));
+					batch.clear();
+				}
+			}
+			
+			pending = publish(pending, write(batch, result));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (CsvValidationException e) {
+			throw new IllegalArgumentException("Invalid CSV: " + e.getMessage(), e);
+		} finally {
+			if (result.accepted > 0) {
+				rollups.refresh(result.touched);
+			}
+			if (pending != null) {
+				events.publishEvent(pending);
+			}
+		}
+		
+		return new BillsImportResult(result.accepted, result.rejected, result.rejections);
+	}
+	
+	/**
+	 * Publish the event of the previous batch and hold the event of the written one
+	 * @param pending - the event of the previous batch, may be null
+	 * @param written - the bills of the written batch
+	 * @return - the event to hold, may be null
+	 */
+	private BillsBulkChangedEvent publish(BillsBulkChangedEvent pending, List<Bill> written) {
+		if (written.isEmpty()) {
+			return pending;
+		}
+		if (pending != null) {
+			events.publishEvent(pending);
+		}
+		
+		return new BillsBulkChangedEvent(ChangeType.ADDED, written);
+	}
+	
+	/**
+	 * Parse and validate a row
+	 * @return - the bill, or null if the row was rejected
+	 */
+	private Bill parse(String[] values, CompaniesSnapshot companies, long line, Result result) {
+		if (values.length != COLUMNS) {
+			result.reject(line, "Expected " + COLUMNS + " columns");
+			return null;
+		}
+		
+		var company = companies.getCompany(values[2].strip()).orElse(null);
+		
+		if (company == null) {
+			result.reject(line, "Unknown company " + values[2]);
+			return null;
+		}
+		
+		Bill bill;
+		
+		try {
+			bill = new Bill(Integer.parseInt(values[0].strip()), Integer.parseInt(values[1].strip()), 
+					company, values[3].strip(), Double.parseDouble(values[4].strip()));
+		} catch (NumberFormatException e) {
+			result.reject(line, "Invalid number " + e.getMessage());
+			return null;
+		}
+		
+		var violations = validator.validate(bill);
+		
+		if (!violations.isEmpty()) {
+			result.reject(line, violations.iterator().next().getMessage());
+			return null;
+		}
+		
+		return bill;
+	}
+	
+	/**
+	 * Write a batch in its own transaction. The batch is inserted optimistically; 
+	 * only when it collides with existing bills is it retried row by row
+	 * @return - the written bills
+	 */
+	private List<Bill> write(List<Row> batch, Result result) {
+		if (batch.isEmpty()) {
+			return List.of();
+		}
+		
+		Set<BillEntityId> seen = new HashSet<>();
+		List<Row> unique = new ArrayList<>(batch.size());
+		
+		for (Row row : batch) {
+			if (seen.add(idOf(row.bill()))) {
+				unique.add(row);
+			} else {
+				result.reject(row.line(), "Bill already exists");
+			}
+		}
+		
+		List<Bill> written;
+		
+		try {
+			written = transaction.execute(status -> persist(unique, result, false));
+		} catch (DataIntegrityViolationException | PersistenceException e) {
+			written = transaction.execute(status -> persist(unique, result, true));
+		}
+		
+		result.accepted += written.size();
+		written.forEach(bill -> result.touched.add(
+				new BillMonthlyRollupEntityId(bill.getCompany().getId(), bill.getMonth())));
+		return written;
+	}
+	
+	/**
+	 * Persist the rows and flush them as one JDBC batch
+	 * @param checkExisting - true to look up each id first and reject the ones that exist
+	 * @return - the bills persisted
+	 */
+	private List<Bill> persist(List<Row> rows, Result result, boolean checkExisting) {
+		List<Bill> persisted = new ArrayList<>(rows.size());
+		
+		for (Row row : rows) {
+			var bill = row.bill();
+			
+			if (checkExisting && br.existsById(idOf(bill))) {
+				result.reject(row.line(), "Bill already exists");
+				continue;
+			}
+			
+			var company = em.getReference(CompanyEntity.class, bill.getCompany().getId());
+			em.persist(new BillEntity(idOf(bill), company, bill.getCity(), bill.getAmount()));
+			persisted.add(bill);
+		}
+		
+		em.flush();
+		em.clear();
+		return persisted;
+	}
+	
+	private static BillEntityId idOf(Bill bill) {
+		return new BillEntityId(bill.getMonth(), bill.getYear(), bill.getCompany().getId());
+	}
+	
+	private record Row(long line, Bill bill) {}
+	
+	private static class Result {
+		private long accepted;
+		private long rejected;
+		private final List<String> rejections = new ArrayList<>();
+		
+		/** The rollups of the added bills, at most one per company and month */
+		private final Set<BillMonthlyRollupEntityId> touched = new HashSet<>();
+		
+		void reject(long line, String reason) {
+			rejected++;
+			
+			if (rejections.size() < MAX_REJECTIONS) {
+				rejections.add("Line " + line + ": " + reason);
+			}
+		}
+	}
+}
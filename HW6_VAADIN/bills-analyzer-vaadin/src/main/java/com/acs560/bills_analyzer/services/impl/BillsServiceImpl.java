@@ -1,20 +1,41 @@
 package com.acs560.bills_analyzer.services.impl;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.acs560.bills_analyzer.entities.BillEntity;
 import com.acs560.bills_analyzer.entities.BillEntityId;
+import com.acs560.bills_analyzer.entities.BillMonthlyRollupEntityId;
+import com.acs560.bills_analyzer.entities.CompanyEntity;
+import com.acs560.bills_analyzer.events.BillChangedEvent;
+import com.acs560.bills_analyzer.events.BillsBulkChangedEvent;
+import com.acs560.bills_analyzer.events.ChangeType;
 import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.BillOutcome;
+import com.acs560.bills_analyzer.models.BillOutcome.Status;
+import com.acs560.bills_analyzer.models.MonthRange;
 import com.acs560.bills_analyzer.repositories.BillsRepository;
+import com.acs560.bills_analyzer.requests.BillSearchRequest;
+import com.acs560.bills_analyzer.services.BillRollupsService;
 import com.acs560.bills_analyzer.services.BillsService;
 
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 
 /**
@@ -23,63 +44,97 @@ import jakarta.validation.Valid;
 @Service
 public class BillsServiceImpl implements BillsService {
 	
+	/**
+	 * The database equivalent of Bill.compareTo
+	 */
+	static final Sort DEFAULT_SORT = Sort.by("id.billingYear", "id.billingMonth", "company.name");
+	
+	/**
+	 * The ids per existence query of the batch operations, 
+	 * which keeps the query under the bind parameter limits
+	 */
+	private static final int IDS_PER_QUERY = 1000;
+	
 	private BillsRepository br;
+	private BillRollupsService rollups;
+	private ApplicationEventPublisher events;
+	private EntityManager em;
+	
+	/**
+	 * The order of the list reads, DEFAULT_SORT when the database sorts them
+	 */
+	private Sort listSort;
 	
 	@Autowired
-	public BillsServiceImpl(BillsRepository br) {
+	public BillsServiceImpl(BillsRepository br, BillRollupsService rollups, ApplicationEventPublisher events,
+			EntityManager em, @Value("${bills.sort.in-database:true}") boolean sortInDatabase) {
 		this.br = br;
+		this.rollups = rollups;
+		this.events = events;
+		this.em = em;
+		this.listSort = sortInDatabase ? DEFAULT_SORT : Sort.unsorted();
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public Optional<Bill> getBill(int companyId, int month, int year) {
-		BillEntityId id = new BillEntityId(month, year, companyId);
-		var be = br.findById(id);
-		Optional<Bill> result = be.isPresent() ? Optional.of(new Bill(be.get())) : Optional.empty(); 
-		
-		return result;
+		return br.findBill(month, year, companyId);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Bill> getBills(){
-		var billEntities = ((List<BillEntity>) br.findAll());
-		return from(billEntities);
+		return sorted(br.findBills(listSort));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Bill> getBills(Pageable pageable) {
+		return br.findBills(withDefaultSort(pageable)).getContent();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Bill> searchBills(@Valid BillSearchRequest search, Pageable pageable) {
+		var page = br.searchBills(toPrefixPattern(search.getCompanyName()), toPrefixPattern(search.getCity()),
+				search.getMonth(), search.getYear(), search.getMinAmount(), search.getMaxAmount(),
+				withDefaultSort(pageable));
+		
+		return page.getContent();
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<Bill> getBillsByCompany(int companyId) {
-		var billEntities = br.findAllByIdCompanyId(companyId);
-		return from(billEntities);
+		return sorted(br.findBillsByCompany(companyId, listSort));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<Bill> getBillsByCompanyAndMonth(int companyId, int month) {
-		var billEntities = br.findAllByIdBillingMonthAndIdCompanyId(month, companyId);
-		return from(billEntities);
+		return sorted(br.findBillsByCompanyAndMonth(companyId, month, listSort));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<Bill> getBillsByMonth(int month) {
-		var billEntities = br.findAllByIdBillingMonth(month);
-		return from(billEntities);
+		return sorted(br.findBillsByMonth(month, listSort));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<Bill> getBillsByMonthAndRange(int month, int range) {
-		var months = MonthRangeUtil.getRange(month, range);
-		var billEntities = br.findAllByIdBillingMonthIn(months);
-		
-		return from(billEntities);
+		return sorted(br.findBillsInMonths(MonthRange.of(month, range), listSort));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<Bill> getBills(int companyId, int month, int range) {
-		var months = MonthRangeUtil.getRange(month, range);
-		var billEntities = br.findAllByIdCompanyIdAndIdBillingMonthIn(companyId, months);
-		
-		return from(billEntities);
+		return sorted(br.findBillsByCompanyInMonths(companyId, MonthRange.of(month, range), listSort));
 	}
 
 	@Override
+	@Transactional
 	public Bill add(@Valid Bill bill) {
 		Bill addedBill = null;
 		
@@ -87,48 +142,180 @@ public class BillsServiceImpl implements BillsService {
 		
 		if (!br.existsById(billToAdd.getId())) {
 			var billEntity = br.save(billToAdd);
+			rollups.billAdded(bill.getCompany().getId(), bill.getMonth(), bill.getAmount());
 			addedBill = new Bill(billEntity);
+			events.publishEvent(new BillChangedEvent(addedBill, ChangeType.ADDED));
 		}
 
 		return addedBill;
 	}
 
 	@Override
+	@Transactional
 	public boolean delete(@Valid Bill bill) {
 		boolean isDeleted = false;
-		BillEntity billToDelete = new BillEntity(bill);
+		var existing = br.findById(new BillEntityId(bill.getMonth(), bill.getYear(), bill.getCompany().getId()));
 		
-		if (br.existsById(billToDelete.getId())) {
-			br.delete(new BillEntity(bill));
+		if (existing.isPresent()) {
+			br.delete(existing.get());
+			rollups.billDeleted(bill.getCompany().getId(), bill.getMonth(), existing.get().getAmount());
+			events.publishEvent(new BillChangedEvent(bill, ChangeType.DELETED));
 			isDeleted = true;
 		}
 		return isDeleted;
 	}
 
 	@Override
+	@Transactional
 	public Bill update(@Valid Bill bill) {
 		Bill updatedBill = null;
 		
 		BillEntity billToUpdate = new BillEntity(bill);
+		var existing = br.findById(billToUpdate.getId());
 		
-		if (br.existsById(billToUpdate.getId())) {
-			var updatedBillEntity = br.save(new BillEntity(bill));
+		if (existing.isPresent()) {
+			double oldAmount = existing.get().getAmount();
+			var updatedBillEntity = br.save(billToUpdate);
+			rollups.billUpdated(bill.getCompany().getId(), bill.getMonth(), oldAmount, bill.getAmount());
 			updatedBill = new Bill(updatedBillEntity);
+			events.publishEvent(new BillChangedEvent(updatedBill, ChangeType.UPDATED));
 		}
 
 		return updatedBill;
 	}
 
-	private List<Bill> from(List<BillEntity> billEntities){
-		var bills = billEntities.stream()
-				.map(be -> new Bill(be))
-				.collect(Collectors.toList());
+	@Override
+	@Transactional
+	public List<BillOutcome> addAll(List<@Valid Bill> bills) {
+		return applyAll(bills, ChangeType.ADDED, (bill, existing) -> {
+			if (existing != null) {
+				return Status.ALREADY_EXISTS;
+			}
+			
+			var company = em.getReference(CompanyEntity.class, bill.getCompany().getId());
+			em.persist(new BillEntity(idOf(bill), company, bill.getCity(), bill.getAmount()));
+			return Status.APPLIED;
+		});
+	}
+
+	@Override
+	@Transactional
+	public List<BillOutcome> updateAll(List<@Valid Bill> bills) {
+		return applyAll(bills, ChangeType.UPDATED, (bill, existing) -> {
+			if (existing == null) {
+				return Status.NOT_FOUND;
+			}
+			
+			em.merge(new BillEntity(bill));
+			return Status.APPLIED;
+		});
+	}
 
+	@Override
+	@Transactional
+	public List<BillOutcome> deleteAll(List<@Valid Bill> bills) {
+		return applyAll(bills, ChangeType.DELETED, (bill, existing) -> {
+			if (existing == null) {
+				return Status.NOT_FOUND;
+			}
+			
+			em.remove(existing);
+			return Status.APPLIED;
+		});
+	}
+	
+	/**
+	 * Apply a write to each bill of a batch.
+	 * The existing bills are loaded up front, the writes are flushed together,
+	 * and the rollups of the changed months are recomputed once.
+	 * @param bills - the bills
+	 * @param type - the change of the write, published with the applied bills
+	 * @param write - the write of a bill given its existing entity, or null, returning its status
+	 * @return - the outcome of each bill
+	 */
+	private List<BillOutcome> applyAll(List<Bill> bills, ChangeType type, BiFunction<Bill, BillEntity, Status> write) {
+		List<BillEntityId> ids = bills.stream().map(BillsServiceImpl::idOf).toList();
+		Map<BillEntityId, BillEntity> existing = new HashMap<>();
+		
+		for (int from = 0; from < ids.size(); from += IDS_PER_QUERY) {
+			var chunk = ids.subList(from, Math.min(from + IDS_PER_QUERY, ids.size()));
+			br.findAllByIdIn(chunk).forEach(be -> existing.put(be.getId(), be));
+		}
+		
+		List<BillOutcome> outcomes = new ArrayList<>(bills.size());
+		Set<BillEntityId> seen = new HashSet<>();
+		Set<BillMonthlyRollupEntityId> changedRollups = new HashSet<>();
+		List<Bill> applied = new ArrayList<>();
+		
+		for (int i = 0; i < bills.size(); i++) {
+			var bill = bills.get(i);
+			var id = ids.get(i);
+			var status = seen.add(id) ? write.apply(bill, existing.get(id)) : Status.DUPLICATE;
+			
+			if (status == Status.APPLIED) {
+				changedRollups.add(new BillMonthlyRollupEntityId(id.getCompanyId(), id.getBillingMonth()));
+				applied.add(bill);
+			}
+			
+			outcomes.add(new BillOutcome(bill, status));
+		}
+		
+		if (!applied.isEmpty()) {
+			em.flush();
+			rollups.refresh(changedRollups);
+			events.publishEvent(new BillsBulkChangedEvent(type, applied));
+		}
+		
+		return outcomes;
+	}
+	
+	private static BillEntityId idOf(Bill bill) {
+		return new BillEntityId(bill.getMonth(), bill.getYear(), bill.getCompany().getId());
+	}
+
+	/**
+	 * Append the default sort so that pages are stable and ordered like Bill.compareTo
+	 * @param pageable - the requested page
+	 * @return - the page request with the default sort as tie breaker
+	 */
+	private static Pageable withDefaultSort(Pageable pageable) {
+		Sort sort = pageable.getSort().and(DEFAULT_SORT);
+		return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+	}
+
+	/**
+	 * Convert a prefix to a LIKE pattern, escaping any wildcards in it
+	 * @param prefix - the prefix, may be null or blank
+	 * @return - the pattern, or null when there is nothing to match
+	 */
+	static String toPrefixPattern(String prefix) {
+		if (prefix == null || prefix.isBlank()) {
+			return null;
+		}
+		
+		String escaped = prefix.strip()
+				.replace("\\", "\\\\")
+				.replace("%", "\\%")
+				.replace("_", "\\_");
+		
+		return escaped + "%";
+	}
+
+	/**
+	 * Put the bills in their natural order.
+	 * Bills sorted by the database are only checked, the others are sorted by packed keys.
+	 * @param bills - the bills read, modifiable
+	 * @return - the bills
+	 * @throws NoSuchElementException - if there are no bills
+	 */
+	private List<Bill> sorted(List<Bill> bills) throws NoSuchElementException {
 		if (bills.isEmpty()) {
 			throw new NoSuchElementException();
 		}
 		
-		Collections.sort(bills);
+		if (!BillOrderUtil.isSorted(bills)) {
+			BillOrderUtil.sort(bills);
+		}
 		
 		return bills;
 	}
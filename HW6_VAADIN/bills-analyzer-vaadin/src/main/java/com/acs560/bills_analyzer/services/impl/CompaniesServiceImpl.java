@@ -4,23 +4,48 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.acs560.bills_analyzer.entities.CompanyEntity;
+import com.acs560.bills_analyzer.events.ChangeType;
+import com.acs560.bills_analyzer.events.CompanyChangedEvent;
+import com.acs560.bills_analyzer.models.CompaniesSnapshot;
 import com.acs560.bills_analyzer.models.Company;
 import com.acs560.bills_analyzer.repositories.CompaniesRepository;
 import com.acs560.bills_analyzer.requests.CompanyRequest;
+import com.acs560.bills_analyzer.search.CompanyNameIndex;
 import com.acs560.bills_analyzer.services.CompaniesService;
 
 @Service
 public class CompaniesServiceImpl implements CompaniesService {
 	
+	private static final Sort BY_NAME = Sort.by("name");
+	
 	private CompaniesRepository cr;
+	private ApplicationEventPublisher events;
+	private CompanyNameIndex nameIndex;
+	private int filterMaxResults;
 	
+	/**
+	 * The name filter is answered from the in-memory name index when enabled and loaded,
+	 * otherwise by a LIKE query scanning the companies table, both capped at filterMaxResults.
+	 */
 	@Autowired
-	public CompaniesServiceImpl(CompaniesRepository cr) {
+	public CompaniesServiceImpl(CompaniesRepository cr, ApplicationEventPublisher events,
+			ObjectProvider<CompanyNameIndex> nameIndex, 
+			@Value("${bills.companies.filter.max-results:100}") int filterMaxResults) {
 		this.cr = cr;
+		this.events = events;
+		this.nameIndex = nameIndex.getIfAvailable();
+		this.filterMaxResults = filterMaxResults;
 	}
 
 	@Override
@@ -41,13 +66,23 @@ public class CompaniesServiceImpl implements CompaniesService {
 		return company;
 	}
 
+	/**
+	 * Get a new snapshot of the companies, see CachingCompaniesService for the shared one
+	 */
+	@Override
+	public CompaniesSnapshot getSnapshot() {
+		return new CompaniesSnapshot(0, getCompanies());
+	}
+
 	@Override
 	public Company addCompany(CompanyRequest c) {
 		var companyToAdd = new CompanyEntity(c);	
 		
 		var companyEntity = cr.save(companyToAdd);
+		var addedCompany = new Company(companyEntity);
+		events.publishEvent(new CompanyChangedEvent(addedCompany, ChangeType.ADDED));
 		
-		return new Company(companyEntity);
+		return addedCompany;
 	}
 
 	@Override
@@ -57,6 +92,7 @@ public class CompaniesServiceImpl implements CompaniesService {
 		if (cr.existsById(id)) {
 			var companyEntity = cr.save(new CompanyEntity(id, c.getName()));
 			updatedCompany = new Company(companyEntity);
+			events.publishEvent(new CompanyChangedEvent(updatedCompany, ChangeType.UPDATED));
 		} 
 		
 		return updatedCompany;
@@ -66,8 +102,11 @@ public class CompaniesServiceImpl implements CompaniesService {
 	public boolean deleteCompany(int id) {
 		boolean isDeleted = false;
 		
-		if (cr.existsById(id)) {
+		var existing = cr.findById(id);
+		
+		if (existing.isPresent()) {
 			cr.deleteById(id);
+			events.publishEvent(new CompanyChangedEvent(new Company(existing.get()), ChangeType.DELETED));
 			isDeleted = true;
 		}
 		
@@ -76,7 +115,12 @@ public class CompaniesServiceImpl implements CompaniesService {
 
 	@Override
 	public List<Company> getCompanies(String filter) {
-		var companyEntities = cr.findByNameContains(filter);
+		var indexed = nameIndex != null ? nameIndex.search(filter, filterMaxResults) : Optional.<List<Company>>empty();
+		if (indexed.isPresent()) {
+			return indexed.get();
+		}
+		
+		var companyEntities = cr.findByNameContainsOrderByName(filter, Limit.of(filterMaxResults));
 		
 		List<Company> companies = new ArrayList<>();
 		companyEntities.forEach(ce -> companies.add(new Company(ce)));
@@ -84,4 +128,11 @@ public class CompaniesServiceImpl implements CompaniesService {
 		return companies;
 	}
 
+	@Override
+	public List<Company> getCompanies(String prefix, Pageable pageable) {
+		var page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), BY_NAME);
+		
+		return cr.findByNameStartingWith(prefix, page).map(Company::new).getContent();
+	}
+
 }
@@ -1,37 +1,18 @@
 package com.acs560.bills_analyzer.services.impl;
 
-import java.util.HashSet;
 import java.util.Set;
 
+import com.acs560.bills_analyzer.models.MonthRange;
+
 public class MonthRangeUtil {
 
+	/**
+	 * Get the months within range of a month, see MonthRange
+	 * @param month - the month, 1 to 12
+	 * @param range - the number of months before and after, 0 to 5
+	 * @return - the months, unmodifiable and shared
+	 */
 	public static Set<Integer> getRange(int month, int range) {
-		
-		if (month < 1 || month > 12) {
-			throw new IllegalArgumentException("Month must be between 1 and 12");
-		} else if (range < 0 || range > 5) {
-			throw new IllegalArgumentException("Range must be between 0 and 5");
-		}
-		
-		int lowerRange = month - range;
-		int upperRange = month + range;
-		
-		Set<Integer> months = new HashSet<>();
-		
-		for (int i = lowerRange; i <= upperRange; i++) {
-			int monthToAdd;
-			
-			if (i <= 0) {
-				monthToAdd = i + 12;
-			} else if (i > 12){
-				monthToAdd = i - 12;
-			} else {
-				monthToAdd = i;
-			}
-			
-			months.add(monthToAdd);
-		}
-		
-		return months;
+		return MonthRange.of(month, range).getMonths();
 	}
 }
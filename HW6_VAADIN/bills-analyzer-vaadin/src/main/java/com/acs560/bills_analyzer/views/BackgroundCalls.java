@@ -0,0 +1,101 @@
+package com.acs560.bills_analyzer.views;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+
+/**
+ * Runs the blocking service calls of the views off the request thread, so that a slow call
+ * does not hold the session lock, and applies their result to the UI through UI.access.
+ * The calls run on the application task executor, on virtual threads when spring.threads.virtual.enabled
+ * is set on Java 21, otherwise on its pool of platform threads.
+ * As the virtual threads are not pooled, at most maxConcurrent calls run at once, sized like the
+ * connection pool, and the others wait for a permit instead of timing out waiting for a connection.
+ */
+@Component
+public class BackgroundCalls {
+
+	private final Executor executor;
+	private final Semaphore permits;
+
+	/**
+	 * Constructor
+	 * @param executor - the autowired application task executor
+	 * @param maxConcurrent - the maximum number of calls running at once
+	 */
+	@Autowired
+	public BackgroundCalls(@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+			Executor executor, @Value("${bills.background-calls.max-concurrent:10}") int maxConcurrent) {
+		this.executor = executor;
+		this.permits = new Semaphore(maxConcurrent, true);
+	}
+
+	/**
+	 * Call a service in the background and apply its result to the UI
+	 * @param <T> - the result type
+	 * @param ui - the UI of the view
+	 * @param call - the blocking service call
+	 * @param onResult - applies the result, inside UI.access
+	 * @param onError - applies the call failure, inside UI.access
+	 * @return - the future of the call
+	 */
+	public <T> CompletableFuture<T> call(UI ui, Supplier<T> call, Consumer<T> onResult,
+			Consumer<Throwable> onError) {
+		return call(command -> ui.access(command::run), call, onResult, onError);
+	}
+
+	/**
+	 * Call a service in the background and apply its result through an executor.
+	 * The MDC of the caller, e.g. its correlation id, is kept for the logs of the call.
+	 * The result of a UI detached in the meantime is dropped.
+	 * @param <T> - the result type
+	 * @param access - applies the result, e.g. in UI.access
+	 * @param call - the blocking service call
+	 * @param onResult - applies the result
+	 * @param onError - applies the call failure
+	 * @return - the future of the call
+	 */
+	<T> CompletableFuture<T> call(Executor access, Supplier<T> call, Consumer<T> onResult,
+			Consumer<Throwable> onError) {
+		Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+		return CompletableFuture.supplyAsync(() -> {
+			if (mdc != null) {
+				MDC.setContextMap(mdc);
+			}
+			permits.acquireUninterruptibly();
+			
+			try {
+				return call.get();
+			} finally {
+				permits.release();
+				MDC.clear();
+			}
+		}, executor).whenComplete((result, e) -> {
+			try {
+				if (e == null) {
+					access.execute(() -> onResult.accept(result));
+				} else {
+					Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+					access.execute(() -> onError.accept(cause));
+				}
+			} catch (UIDetachedException detached) {
+				// The view is gone, nothing to apply the result to
+			}
+		});
+	}
+}
@@ -0,0 +1,180 @@
+package com.acs560.bills_analyzer.views;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.acs560.bills_analyzer.events.BillChangedEvent;
+import com.acs560.bills_analyzer.events.BillsBulkChangedEvent;
+import com.acs560.bills_analyzer.events.CompanyChangedEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.shared.Registration;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+
+/**
+ * Pushes the committed bill and company changes to the attached views.
+ * The changes of a burst are coalesced per UI: the first change of a UI schedules one UI.access
+ * after the coalesce delay, which applies all the changes received until then in a single push.
+ */
+@Component
+public class ChangeBroadcaster {
+
+	/** The bill changes kept per push, more are applied as a bulk change */
+	static final int MAX_CHANGES = 100;
+	
+	/**
+	 * A view applying the changes, called inside UI.access
+	 */
+	@FunctionalInterface
+	public interface Listener {
+		void onChanges(Changes changes);
+	}
+	
+	/**
+	 * The coalesced changes of a push
+	 */
+	@Getter
+	public static class Changes {
+		
+		private final List<BillChangedEvent> bills = new ArrayList<>();
+		private final List<CompanyChangedEvent> companies = new ArrayList<>();
+		
+		/** True if bills were changed in bulk, or too many to apply one by one */
+		private boolean bulk;
+		
+		private boolean isEmpty() {
+			return bills.isEmpty() && companies.isEmpty() && !bulk;
+		}
+	}
+	
+	private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+	private final ScheduledExecutorService scheduler;
+	private final long coalesceMillis;
+	
+	public ChangeBroadcaster(@Value("${bills.push.coalesce:250ms}") Duration coalesce) {
+		this.coalesceMillis = coalesce.toMillis();
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "change-broadcaster");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+	
+	/**
+	 * Register a view for the changes, until its detach
+	 * @param ui - the UI of the view
+	 * @param listener - the view listener
+	 * @return - the registration to remove on detach
+	 */
+	public Registration register(UI ui, Listener listener) {
+		return register(command -> ui.access(command::run), listener);
+	}
+	
+	/**
+	 * Register a listener called through an executor
+	 * @param access - runs the listener, e.g. in UI.access
+	 * @param listener - the listener
+	 * @return - the registration
+	 */
+	Registration register(Executor access, Listener listener) {
+		var subscriber = new Subscriber(access, listener);
+		subscribers.add(subscriber);
+		return () -> subscribers.remove(subscriber);
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBillChanged(BillChangedEvent event) {
+		subscribers.forEach(s -> s.offer(changes -> {
+			if (changes.bills.size() < MAX_CHANGES) {
+				changes.bills.add(event);
+			} else {
+				changes.bills.clear();
+				changes.bulk = true;
+			}
+		}));
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCompanyChanged(CompanyChangedEvent event) {
+		subscribers.forEach(s -> s.offer(changes -> changes.companies.add(event)));
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBillsBulkChanged(BillsBulkChangedEvent event) {
+		subscribers.forEach(s -> s.offer(changes -> {
+			changes.bills.clear();
+			changes.bulk = true;
+		}));
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdownNow();
+	}
+	
+	/**
+	 * The pending changes of a registered view
+	 */
+	private class Subscriber {
+		
+		private final Executor access;
+		private final Listener listener;
+		
+		private Changes pending;
+		
+		private Subscriber(Executor access, Listener listener) {
+			this.access = access;
+			this.listener = listener;
+		}
+		
+		/**
+		 * Add a change to the pending changes, scheduling their push if they were empty
+		 */
+		private synchronized void offer(Consumer<Changes> change) {
+			if (pending == null) {
+				pending = new Changes();
+				scheduler.schedule(this::flush, coalesceMillis, TimeUnit.MILLISECONDS);
+			}
+			change.accept(pending);
+		}
+		
+		private void flush() {
+			Changes changes;
+			synchronized (this) {
+				changes = pending;
+				pending = null;
+			}
+			if (changes == null || changes.isEmpty()) {
+				return;
+			}
+			
+			try {
+				access.execute(() -> listener.onChanges(changes));
+			} catch (UIDetachedException e) {
+				subscribers.remove(this);
+			}
+		}
+	}
+	
+	/**
+	 * Get the registered views, for the tests
+	 */
+	Set<?> getSubscribers() {
+		return Collections.unmodifiableSet(subscribers);
+	}
+}
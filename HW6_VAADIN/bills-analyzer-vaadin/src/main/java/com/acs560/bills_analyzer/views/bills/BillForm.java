@@ -8,6 +8,7 @@ import java.util.stream.IntStream;
 
 import com.acs560.bills_analyzer.models.Bill;
 import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.requests.BillRequest;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.ComponentEventListener;
@@ -21,6 +22,7 @@ import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.BeanValidationBinder;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.ValidationException;
+import com.vaadin.flow.data.provider.CallbackDataProvider.FetchCallback;
 import com.vaadin.flow.shared.Registration;
 
 import lombok.Getter;
@@ -44,14 +46,15 @@ public class BillForm extends FormLayout {
 	private final Button delete = new Button("Delete");
 	private final Button cancel = new Button("Cancel");
 
-	private final Binder<Bill> binder = new BeanValidationBinder<>(Bill.class);
+	private final Binder<BillRequest> binder = new BeanValidationBinder<>(BillRequest.class);
 	private Bill bill;
 	private boolean isAdd;
 
 	/**
 	 * Constructor
+	 * @param companies - fetches a page of the companies whose name starts with the typed filter
 	 */
-	public BillForm(List<Company> companies) {
+	public BillForm(FetchCallback<Company, String> companies) {
 		addClassName("bills-form");
 		
 		month.setItems(getRange(1, 12, true));
@@ -59,13 +62,9 @@ public class BillForm extends FormLayout {
 		int currentYear = Year.now().getValue();
 		year.setItems(getRange(currentYear - 24, currentYear, false));
 		
-		// Set company items if provided
-	    if (companies != null && !companies.isEmpty()) {
-	        company.setItems(companies);
-	        company.setItemLabelGenerator(Company::getName); // Display only the company name
-	    } else {
-	        company.setItems(Collections.emptyList()); // Handle empty list
-	    }
+		// Only the fetched page of the companies matching the typed filter is sent to the browser
+		company.setItems(companies);
+		company.setItemLabelGenerator(Company::getName); // Display only the company name
 
 		binder.bindInstanceFields(this);		
 
@@ -87,7 +86,7 @@ public class BillForm extends FormLayout {
 		cancel.addClickShortcut(Key.ESCAPE);
 
 		save.addClickListener(event -> handleSave());
-		delete.addClickListener(event -> fireEvent(new DeleteEvent(this, binder.getBean())));
+		delete.addClickListener(event -> fireEvent(new DeleteEvent(this, bill)));
 		cancel.addClickListener(event -> fireEvent(new CancelEvent(this)));
 
 		binder.addStatusChangeListener(e -> save.setEnabled(binder.isValid()));
@@ -99,12 +98,13 @@ public class BillForm extends FormLayout {
 	 */
 	private void handleSave() {
 		try {
-			binder.writeBean(bill);
+			BillRequest request = new BillRequest();
+			binder.writeBean(request);
 
 			if (isAdd) {
-				fireEvent(new AddEvent(this, bill));
+				fireEvent(new AddEvent(this, request.toBill()));
 			} else {
-				fireEvent(new UpdateEvent(this, bill));
+				fireEvent(new UpdateEvent(this, request.toBill()));
 			}
 		} catch (ValidationException e) {
 			// TODO Auto-generated catch block
@@ -114,10 +114,10 @@ public class BillForm extends FormLayout {
 
 	/**
 	 * Update the form with the bill and whether it is to add or update a bill
-	 * @param bill - the bill 
+	 * @param bill - the bill, which is not changed by the form
 	 * @param isAdd - true indicates add, otherwise update
 	 */
-	public void update(Bill bill, List<Company> companies, boolean isAdd) {
+	public void update(Bill bill, boolean isAdd) {
 		
 		this.isAdd = isAdd;
 		
@@ -129,27 +129,14 @@ public class BillForm extends FormLayout {
 		year.setReadOnly(!isAdd);
 		
 
-		company.setItems(companies);
-		// Set the item label generator to display only the name
-		company.setItemLabelGenerator(Company::getName);
-		
-		month.setItems(getRange(1, 12, true));
+		this.bill = bill;
 		
 		if (bill != null) {		
-			this.bill = bill;
+			binder.readBean(new BillRequest(bill));
 		} else {			
-			company.setValue(null);
-			month.setValue(null);
-			year.setValue(null);
-			city.setValue("");
-			amount.setValue("");
-			this.bill = new Bill();
+			//reset fields to defaults
+			binder.readBean(null);
 		}
-				
-		
-		// disable any fields here
-		
-		binder.setBean(bill);
 	}
 
 	/**
@@ -1,31 +1,56 @@
 package com.acs560.bills_analyzer.views.bills;
 
-import java.util.List;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 
+import com.acs560.bills_analyzer.events.ChangeType;
 import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.requests.BillSearchRequest;
+import com.acs560.bills_analyzer.services.BillsExportService;
+import com.acs560.bills_analyzer.services.BillsImportService;
 import com.acs560.bills_analyzer.services.BillsService;
 import com.acs560.bills_analyzer.services.CompaniesService;
+import com.acs560.bills_analyzer.views.BackgroundCalls;
+import com.acs560.bills_analyzer.views.ChangeBroadcaster;
+import com.acs560.bills_analyzer.views.ChangeBroadcaster.Changes;
 import com.acs560.bills_analyzer.views.MainLayout;
 import com.acs560.bills_analyzer.views.bills.BillForm.AddEvent;
 import com.acs560.bills_analyzer.views.bills.BillForm.CancelEvent;
 import com.acs560.bills_analyzer.views.bills.BillForm.DeleteEvent;
 import com.acs560.bills_analyzer.views.bills.BillForm.UpdateEvent;
+import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.Anchor;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.IntegerField;
+import com.vaadin.flow.component.textfield.NumberField;
 import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.component.upload.receivers.FileBuffer;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.spring.annotation.SpringComponent;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 
 import jakarta.annotation.security.PermitAll;
 
@@ -45,30 +70,61 @@ public class BillsView extends VerticalLayout {
 	private BillsService billsService;
 	@Autowired
 	private CompaniesService companiesService;
+	@Autowired
+	private BillsImportService billsImportService;
+	@Autowired
+	private BillsExportService billsExportService;
+	@Autowired
+	private ChangeBroadcaster changeBroadcaster;
+	@Autowired
+	private BackgroundCalls backgroundCalls;
 
 	private final Grid<Bill> grid;
 	private final TextField filterText;
+	private final TextField cityFilter;
+	private final ComboBox<Integer> monthFilter = new ComboBox<>();
+	private final IntegerField yearFilter = new IntegerField();
+	private final NumberField minAmountFilter = new NumberField();
+	private final NumberField maxAmountFilter = new NumberField();
 	private final BillForm billsForm;
+	
+	private BillSearchRequest search = new BillSearchRequest();
+	private Registration changesRegistration;
 
 	/**
 	 * Constructor Builds this component
 	 * 
 	 * @param billsService - the autowired bills service
+	 * @param companiesService - the autowired companies service
+	 * @param billsImportService - the autowired bills import service
+	 * @param billsExportService - the autowired bills export service
+	 * @param changeBroadcaster - the autowired change broadcaster
+	 * @param backgroundCalls - the autowired background calls
 	 */
 	public BillsView(BillsService billsService,
-			CompaniesService companiesService) {
+			CompaniesService companiesService,
+			BillsImportService billsImportService,
+			BillsExportService billsExportService,
+			ChangeBroadcaster changeBroadcaster,
+			BackgroundCalls backgroundCalls) {
 		this.billsService = billsService;
 		this.companiesService = companiesService;
+		this.billsImportService = billsImportService;
+		this.billsExportService = billsExportService;
+		this.changeBroadcaster = changeBroadcaster;
+		this.backgroundCalls = backgroundCalls;
 
 		addClassName("list-view");
 		setSizeFull();
 
 		grid = createGrid();
 		billsForm = createForm();
-		filterText = createFilter();
+		filterText = createFilter("Filter by company...");
+		cityFilter = createFilter("City...");
+		configureFilters();
 
 		add(getToolbar(filterText), getContent());
-		updateGrid(billsService.getBills());
+		updateGrid();
 		closeForm();
 	}
 
@@ -83,11 +139,12 @@ public class BillsView extends VerticalLayout {
 
 		grid.setColumns();
 		    
-		grid.addColumn(bill -> bill.getMonth()).setHeader("Month").setSortable(true);
-		grid.addColumn(bill -> bill.getYear()).setHeader("Year").setSortable(true);
-		grid.addColumn(bill -> bill.getCompany().getName()).setHeader("Company").setSortable(true);
-		grid.addColumn(bill -> bill.getCity()).setHeader("City").setSortable(true);
-		grid.addColumn(bill -> bill.getAmount()).setHeader("Amount").setSortable(true);
+		// Sort properties are BillEntity paths so that sorting happens in the database
+		grid.addColumn(bill -> bill.getMonth()).setHeader("Month").setSortProperty("id.billingMonth");
+		grid.addColumn(bill -> bill.getYear()).setHeader("Year").setSortProperty("id.billingYear");
+		grid.addColumn(bill -> bill.getCompany().getName()).setHeader("Company").setSortProperty("company.name");
+		grid.addColumn(bill -> bill.getCity()).setHeader("City").setSortProperty("city");
+		grid.addColumn(bill -> bill.getAmount()).setHeader("Amount").setSortProperty("amount");
 
 		grid.getColumns().forEach(col -> col.setAutoWidth(true));
 
@@ -102,7 +159,9 @@ public class BillsView extends VerticalLayout {
 	 * @return - the bills form
 	 */
 	private BillForm createForm() {
-		BillForm billsForm = new BillForm(companiesService.getCompanies());
+		BillForm billsForm = new BillForm(query -> companiesService
+				.getCompanies(query.getFilter().orElse(""), VaadinSpringDataHelpers.toSpringPageRequest(query))
+				.stream());
 		billsForm.addListener(AddEvent.class, this::addBill);
 		billsForm.addListener(DeleteEvent.class, this::deleteBill);
 		billsForm.addListener(CancelEvent.class, e -> closeForm());
@@ -112,13 +171,14 @@ public class BillsView extends VerticalLayout {
 	}
 	
     /**
-     * Create the filter text field
+     * Create a prefix filter text field
+     * @param placeholder - the placeholder of the field
      * @return - the filter text field
      */
-    private TextField createFilter() {
+    private TextField createFilter(String placeholder) {
     	TextField filterText = new TextField();
     	filterText.setValueChangeTimeout(500);
-        filterText.setPlaceholder("Filter by name...");
+        filterText.setPlaceholder(placeholder);
         filterText.setClearButtonVisible(true);
         filterText.setValueChangeMode(ValueChangeMode.LAZY);
         filterText.addValueChangeListener(e -> handleFilter());
@@ -126,6 +186,30 @@ public class BillsView extends VerticalLayout {
         return filterText;
     }
 
+    /**
+     * Configure the month, year and amount filter fields
+     */
+    private void configureFilters() {
+    	monthFilter.setPlaceholder("Month");
+    	monthFilter.setItems(IntStream.rangeClosed(1, 12).boxed().collect(Collectors.toList()));
+    	monthFilter.setClearButtonVisible(true);
+    	monthFilter.addValueChangeListener(e -> handleFilter());
+    	
+    	yearFilter.setPlaceholder("Year");
+    	yearFilter.setClearButtonVisible(true);
+    	yearFilter.setValueChangeMode(ValueChangeMode.LAZY);
+    	yearFilter.addValueChangeListener(e -> handleFilter());
+    	
+    	minAmountFilter.setPlaceholder("Min amount");
+    	maxAmountFilter.setPlaceholder("Max amount");
+    	
+    	for (NumberField amountFilter : new NumberField[] {minAmountFilter, maxAmountFilter}) {
+    		amountFilter.setClearButtonVisible(true);
+    		amountFilter.setValueChangeMode(ValueChangeMode.LAZY);
+    		amountFilter.addValueChangeListener(e -> handleFilter());
+    	}
+    }
+
     /**
      * Create the toolbar
      * @param filterText - the filter text field
@@ -135,11 +219,47 @@ public class BillsView extends VerticalLayout {
 		Button addContactButton = new Button("Add bill");
 		addContactButton.addClickListener(click -> handleAdd());
 
-		var toolbar = new HorizontalLayout(filterText, addContactButton);
+		var toolbar = new HorizontalLayout(filterText, cityFilter, monthFilter, yearFilter,
+				minAmountFilter, maxAmountFilter, addContactButton, createImport(), createExport());
 		toolbar.addClassName("toolbar");
 		return toolbar;
 	}
 
+    /**
+     * Create the CSV import upload.
+     * The upload is buffered to a temporary file and streamed into the import.
+     * @return - the upload component
+     */
+	private Upload createImport() {
+		FileBuffer buffer = new FileBuffer();
+		Upload upload = new Upload(buffer);
+		upload.setAcceptedFileTypes(".csv", "text/csv");
+		upload.setUploadButton(new Button("Import CSV"));
+		upload.setDropAllowed(false);
+		upload.addSucceededListener(e -> handleImport(buffer));
+		
+		return upload;
+	}
+
+    /**
+     * Create the CSV export download of the bills matching the current filters.
+     * The CSV is written to the response while the bills are read from the database.
+     * @return - the download link
+     */
+	private Anchor createExport() {
+		var resource = new StreamResource("bills.csv", (out, session) -> {
+			var csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+			billsExportService.exportBills(search, csv);
+		});
+		resource.setContentType("text/csv");
+		
+		Anchor download = new Anchor(resource, "");
+		download.getElement().setAttribute("download", true);
+		download.add(new Button("Export CSV"));
+		
+		return download;
+	}
+
     /**
      * Get the main content for the view
      * @return - the main content for the view
@@ -154,10 +274,46 @@ public class BillsView extends VerticalLayout {
 	}
 
     /**
-     * Update the view's grid of data
+     * Update the view's grid of data with a lazy data provider
+     * that only fetches the visible page of the searched bills
      */
-	private void updateGrid(List<Bill> bills) {
-		grid.setItems(bills);
+	private void updateGrid() {
+		grid.setItems(query -> billsService
+				.searchBills(search, VaadinSpringDataHelpers.toSpringPageRequest(query))
+				.stream());
+	}
+
+    /**
+     * Apply the changes of all the sessions to the grid, pushed by the change broadcaster.
+     * An updated bill is refreshed alone. Since the grid is lazy, added and deleted bills,
+     * renamed companies and bulk changes refetch the visible page instead of inserting or removing rows.
+     * @param changes - the coalesced changes
+     */
+	private void applyChanges(Changes changes) {
+		var dataProvider = grid.getDataProvider();
+		
+		boolean refreshAll = changes.isBulk()
+				|| changes.getBills().stream().anyMatch(e -> e.getType() != ChangeType.UPDATED)
+				|| changes.getCompanies().stream().anyMatch(e -> e.getType() != ChangeType.ADDED);
+		
+		if (refreshAll) {
+			dataProvider.refreshAll();
+		} else {
+			changes.getBills().forEach(e -> dataProvider.refreshItem(e.getBill()));
+		}
+	}
+	
+	@Override
+	protected void onAttach(AttachEvent attachEvent) {
+		super.onAttach(attachEvent);
+		changesRegistration = changeBroadcaster.register(attachEvent.getUI(), this::applyChanges);
+	}
+	
+	@Override
+	protected void onDetach(DetachEvent detachEvent) {
+		changesRegistration.remove();
+		changesRegistration = null;
+		super.onDetach(detachEvent);
 	}
 
     /**
@@ -165,7 +321,7 @@ public class BillsView extends VerticalLayout {
      * @param bill - the selected bill
      */
 	private void handleSelected(Bill bill) {
-		this.billsForm.update(bill, companiesService.getCompanies(), false);
+		this.billsForm.update(bill, false);
 		this.billsForm.setVisible(true);
 		addClassName("editing");
 	}
@@ -175,7 +331,7 @@ public class BillsView extends VerticalLayout {
 	 */
 	private void handleAdd() {
 		grid.asSingleSelect().clear();
-		billsForm.update(null, companiesService.getCompanies(), true);
+		billsForm.update(null, true);
 		billsForm.setVisible(true);
 		addClassName("editing");
 	}
@@ -188,18 +344,39 @@ public class BillsView extends VerticalLayout {
 		removeClassName("editing");
 	}
 
+	/**
+	 * Handler for a finished CSV upload.
+	 * The import runs in the background, its outcome is notified when it is done.
+	 * @param buffer - the uploaded file
+	 */
+	private void handleImport(FileBuffer buffer) {
+		backgroundCalls.call(getUI().orElseThrow(), () -> {
+			try (var csv = new InputStreamReader(buffer.getInputStream(), StandardCharsets.UTF_8)) {
+				return billsImportService.importBills(csv);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} finally {
+				buffer.getFileData().getFile().delete();
+			}
+		}, result -> {
+			Notification notification = Notification.show("Imported " + result.getAccepted() 
+					+ " bills, rejected " + result.getRejected());
+			notification.addThemeVariants(result.getRejected() == 0 
+					? NotificationVariant.LUMO_SUCCESS : NotificationVariant.LUMO_CONTRAST);
+		}, e -> showError("Import failed: ", e));
+	}
+
 	/**
 	 * Handler for bill form add event
 	 * @param event - the AddEvent
 	 */
 	private void addBill(AddEvent event) {
-		billsService.add(event.getBill());
-		updateGrid(billsService.getBills());
-		
-		Notification notification = Notification.show("Data Added!");
-    	notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
-		
-		closeForm();
+		backgroundCalls.call(getUI().orElseThrow(), () -> billsService.add(event.getBill()), bill -> {
+			Notification notification = Notification.show("Data Added!");
+	    	notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+			
+			closeForm();
+		}, e -> showError("Add failed: ", e));
 	}
 	
 	/**
@@ -207,14 +384,12 @@ public class BillsView extends VerticalLayout {
 	 * @param event - the UpdateEvent
 	 */
 	private void updateBill(UpdateEvent event) {
-		billsService.update(event.getBill());
-		updateGrid(billsService.getBills());
-		
-		Notification notification = Notification.show("Data Updated!");
-    	notification.addThemeVariants(NotificationVariant.LUMO_PRIMARY);    			
-
-		
-		closeForm();
+		backgroundCalls.call(getUI().orElseThrow(), () -> billsService.update(event.getBill()), bill -> {
+			Notification notification = Notification.show("Data Updated!");
+	    	notification.addThemeVariants(NotificationVariant.LUMO_PRIMARY);
+			
+			closeForm();
+		}, e -> showError("Update failed: ", e));
 	}
 
 	/**
@@ -222,29 +397,32 @@ public class BillsView extends VerticalLayout {
 	 * @param event
 	 */
 	private void deleteBill(DeleteEvent event) {
-		billsService.delete(event.getBill());
-		
-		Notification notification = Notification.show("Data Deleted!");
-    	notification.addThemeVariants(NotificationVariant.LUMO_CONTRAST);    			
-
-		updateGrid(billsService.getBills());
-		closeForm();
+		backgroundCalls.call(getUI().orElseThrow(), () -> billsService.delete(event.getBill()), deleted -> {
+			Notification notification = Notification.show("Data Deleted!");
+	    	notification.addThemeVariants(NotificationVariant.LUMO_CONTRAST);
+	    	
+			closeForm();
+		}, e -> showError("Delete failed: ", e));
+	}
+	
+	/**
+	 * Notify the failure of a background call, the form stays open to retry
+	 * @param message - the message prefix
+	 * @param e - the failure
+	 */
+	private void showError(String message, Throwable e) {
+		Notification notification = Notification.show(message + e.getMessage());
+		notification.addThemeVariants(NotificationVariant.LUMO_ERROR);
 	}
 
 	/**
-	 * Handler for the filter text change listener
+	 * Handler for the filter fields change listeners
 	 */
 	private void handleFilter() {	
-		
-		String filter = filterText.getValue();
-		List<Bill> filteredBills = billsService.getBills().stream()
-		        .filter(bill -> bill.getCompany().getName().contains(filter) ||
-		                        bill.getCity().contains(filter) ||
-		                        String.valueOf(bill.getAmount()).contains(filter) ||
-		                        String.valueOf(bill.getMonth()).contains(filter) ||
-		                        String.valueOf(bill.getYear()).contains(filter))
-		        .collect(Collectors.toList());
-		updateGrid(filteredBills);
+		search = new BillSearchRequest(filterText.getValue(), cityFilter.getValue(),
+				monthFilter.getValue(), yearFilter.getValue(),
+				minAmountFilter.getValue(), maxAmountFilter.getValue());
+		updateGrid();
 		
 		Notification notification = Notification.show("Updated data");
     	notification.addThemeVariants(NotificationVariant.LUMO_CONTRAST);
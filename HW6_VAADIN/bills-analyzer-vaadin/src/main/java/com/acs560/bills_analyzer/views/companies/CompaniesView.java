@@ -1,21 +1,28 @@
 package com.acs560.bills_analyzer.views.companies;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 
+import com.acs560.bills_analyzer.events.CompanyChangedEvent;
 import com.acs560.bills_analyzer.models.Company;
 import com.acs560.bills_analyzer.requests.CompanyRequest;
 import com.acs560.bills_analyzer.services.CompaniesService;
+import com.acs560.bills_analyzer.views.ChangeBroadcaster;
+import com.acs560.bills_analyzer.views.ChangeBroadcaster.Changes;
 import com.acs560.bills_analyzer.views.MainLayout;
 import com.acs560.bills_analyzer.views.companies.CompanyForm.AddEvent;
 import com.acs560.bills_analyzer.views.companies.CompanyForm.CancelEvent;
 import com.acs560.bills_analyzer.views.companies.CompanyForm.DeleteEvent;
 import com.acs560.bills_analyzer.views.companies.CompanyForm.UpdateEvent;
+import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.dataview.GridListDataView;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
@@ -24,6 +31,7 @@ import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.spring.annotation.SpringComponent;
 
 import jakarta.annotation.security.PermitAll;
@@ -42,6 +50,8 @@ public class CompaniesView extends VerticalLayout  {
 	
 	@Autowired
 	private CompaniesService companiesService;
+	@Autowired
+	private ChangeBroadcaster changeBroadcaster;
 	
 	private final Grid<Company> grid;
 	private final TextField filterText;
@@ -49,13 +59,20 @@ public class CompaniesView extends VerticalLayout  {
 
 	private boolean filtering = false;
 	
+	/** The companies of the grid, changed in place by the pushed changes */
+	private List<Company> companies = new ArrayList<>();
+	private GridListDataView<Company> dataView;
+	private Registration changesRegistration;
+	
 	/**
 	 * Constructor.
 	 * Builds this component.
 	 * @param companiesService - the autowired CompaniesService
+	 * @param changeBroadcaster - the autowired change broadcaster
 	 */
-	public CompaniesView(CompaniesService companiesService) {
+	public CompaniesView(CompaniesService companiesService, ChangeBroadcaster changeBroadcaster) {
 		this.companiesService = companiesService;
+		this.changeBroadcaster = changeBroadcaster;
 		
         addClassName("list-view");
         setSizeFull();
@@ -155,16 +172,13 @@ public class CompaniesView extends VerticalLayout  {
     	}
     	
     	String filter = filterText.getValue();
-    	List<Company> companies;
     	
     	if (filter.length() > 2) {
-    		companies = companiesService.getCompanies(filter);
+    		setItems(companiesService.getCompanies(filter));
     	} else {
-    		companies = companiesService.getCompanies();
+    		setItems(companiesService.getCompanies());
     	}
     	
-    	grid.setItems(companies);
-    	
     	Notification notification = Notification.show("Refreshed data!");
     	notification.addThemeVariants(NotificationVariant.LUMO_CONTRAST);
     }
@@ -173,13 +187,83 @@ public class CompaniesView extends VerticalLayout  {
      * Update the view's grid of data
      */
     private void updateGrid() {
-    	List<Company> companies = companiesService.getCompanies();
-    	grid.setItems(companies);
+    	setItems(companiesService.getCompanies());
     	filtering = false;
     	filterText.clear();
     	filtering = true;
     }
     
+    /**
+     * Set the companies of the grid, identified by id so that a renamed company replaces its row
+     * @param items - the companies
+     */
+    private void setItems(List<Company> items) {
+    	companies = new ArrayList<>(items);
+    	dataView = grid.setItems(companies);
+    	dataView.setIdentifierProvider(Company::getId);
+    }
+    
+    /**
+     * Apply the company changes of all the sessions to the grid, pushed by the change broadcaster.
+     * Only the changed rows are added, refreshed or removed.
+     * @param changes - the coalesced changes
+     */
+    private void applyChanges(Changes changes) {
+    	for (CompanyChangedEvent event : changes.getCompanies()) {
+    		Company company = event.getCompany();
+    		int index = indexOf(company.getId());
+    		
+    		switch (event.getType()) {
+    		case ADDED:
+    			if (index < 0 && matchesFilter(company)) {
+    				dataView.addItem(company);
+    			}
+    			break;
+    		case UPDATED:
+    			if (index >= 0) {
+    				companies.set(index, company);
+    				dataView.refreshItem(company);
+    			}
+    			break;
+    		case DELETED:
+    			if (index >= 0) {
+    				dataView.removeItem(companies.get(index));
+    			}
+    			break;
+    		}
+    	}
+    }
+    
+    private int indexOf(int companyId) {
+    	for (int i = 0; i < companies.size(); i++) {
+    		if (companies.get(i).getId() == companyId) {
+    			return i;
+    		}
+    	}
+    	return -1;
+    }
+    
+    /**
+     * Check whether an added company matches the filter of handleFilter
+     */
+    private boolean matchesFilter(Company company) {
+    	String filter = filterText.getValue();
+    	return filter.length() <= 2 || company.getName().toLowerCase().contains(filter.toLowerCase());
+    }
+    
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+    	super.onAttach(attachEvent);
+    	changesRegistration = changeBroadcaster.register(attachEvent.getUI(), this::applyChanges);
+    }
+    
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+    	changesRegistration.remove();
+    	changesRegistration = null;
+    	super.onDetach(detachEvent);
+    }
+    
     /**
      * Handler for selected company from the grid
      * @param company - the selected company
@@ -219,7 +303,6 @@ public class CompaniesView extends VerticalLayout  {
     private void addCompany(AddEvent event) {
     	CompanyRequest cr = new CompanyRequest(event.getCompany().getName());
     	companiesService.addCompany(cr);
-    	updateGrid();
     	
     	Notification notification = Notification.show("Added a new company!");
     	notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
@@ -235,7 +318,6 @@ public class CompaniesView extends VerticalLayout  {
     	final int id = event.getCompany().getId();
     	final CompanyRequest cr = new CompanyRequest(event.getCompany().getName());
     	companiesService.updateCompany(id, cr);
-    	updateGrid();
     	
     	Notification notification = Notification.show("Updated company data!");
     	notification.addThemeVariants(NotificationVariant.LUMO_PRIMARY);
@@ -249,7 +331,6 @@ public class CompaniesView extends VerticalLayout  {
      */
     private void deleteCompany(DeleteEvent event) {
     	companiesService.deleteCompany(event.getCompany().getId());
-    	updateGrid();
     	
     	Notification notification = Notification.show("Deleted company!");
     	notification.addThemeVariants(NotificationVariant.LUMO_CONTRAST);
@@ -1,6 +1,7 @@
 package com.acs560.bills_analyzer.views.companies;
 
 import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.requests.CompanyRequest;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.ComponentEventListener;
@@ -19,13 +20,15 @@ import lombok.Getter;
 
 /**
  * The form to manage a company.
+ * The shared companies are immutable, so the form edits a CompanyRequest copy of the company,
+ * read with readBean and written with writeBean on save, and cancelling leaves the company unchanged.
  */
 public class CompanyForm extends FormLayout {
 
 	private static final long serialVersionUID = 476310807171214015L;
 
-	//This needs to match a field in my object!
-	//The field in the object needs a setter!	
+	//The name needs to match a field of CompanyRequest, with a setter!
+	//The id is only displayed.
 	private final TextField id = new TextField("Id");
 	private final TextField name = new TextField("Name");
 	
@@ -34,7 +37,7 @@ public class CompanyForm extends FormLayout {
 	private final Button delete = new Button("Delete");
 	private final Button cancel = new Button("Cancel");
 
-	private final Binder<Company> binder = new BeanValidationBinder<>(Company.class);
+	private final Binder<CompanyRequest> binder = new BeanValidationBinder<>(CompanyRequest.class);
 	private Company company;
 	private boolean isAdd;
 
@@ -65,7 +68,7 @@ public class CompanyForm extends FormLayout {
 		cancel.addClickShortcut(Key.ESCAPE);
 
 		save.addClickListener(event -> handleSave());
-		delete.addClickListener(event -> fireEvent(new DeleteEvent(this, binder.getBean())));
+		delete.addClickListener(event -> fireEvent(new DeleteEvent(this, company)));
 		cancel.addClickListener(event -> fireEvent(new CancelEvent(this)));
 
 		binder.addStatusChangeListener(e -> save.setEnabled(binder.isValid()));
@@ -77,12 +80,13 @@ public class CompanyForm extends FormLayout {
 	 */
 	private void handleSave() {
 		try {
-			binder.writeBean(company);
+			CompanyRequest request = new CompanyRequest();
+			binder.writeBean(request);
 			
 			if (isAdd) {
-				fireEvent(new AddEvent(this, company));
+				fireEvent(new AddEvent(this, new Company(0, request.getName())));
 			} else {
-				fireEvent(new UpdateEvent(this, company));
+				fireEvent(new UpdateEvent(this, new Company(company.getId(), request.getName())));
 			}
 			
 		} catch (ValidationException e) {
@@ -93,7 +97,7 @@ public class CompanyForm extends FormLayout {
 
 	/**
 	 * Update the form with the company and whether it is to add or update a company
-	 * @param company - the company 
+	 * @param company - the company, which is not changed by the form
 	 * @param isAdd - true indicates add, otherwise update
 	 */
 	public void update(Company company, boolean isAdd) {
@@ -106,18 +110,16 @@ public class CompanyForm extends FormLayout {
 		id.setReadOnly(true);
 		name.setReadOnly(false);
 		
+		this.company = company;
+		
 		if (company != null) {
-			this.company = company;
-			
+			id.setValue(String.valueOf(company.getId()));
+			binder.readBean(new CompanyRequest(company.getName()));
 		} else {
 			//reset fields to defaults		
-			id.setValue("1000");
-			name.setValue("");
-			
-			this.company = new Company();
+			id.setValue("");
+			binder.readBean(null);
 		}
-
-		binder.setBean(company);
 	}
 
 	/**
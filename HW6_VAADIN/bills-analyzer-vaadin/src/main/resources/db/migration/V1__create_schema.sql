@@ -0,0 +1,38 @@
+-- The schema of the entities, checked at startup by spring.jpa.hibernate.ddl-auto=validate.
+-- Amounts are DOUBLE, as mapped from the double fields of the entities.
+
+CREATE TABLE companies (
+    id INTEGER NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_companies_name UNIQUE (name)
+) ENGINE=InnoDB;
+
+CREATE TABLE bills (
+    billing_month INTEGER NOT NULL,
+    billing_year INTEGER NOT NULL,
+    company_id INTEGER NOT NULL,
+    city VARCHAR(255) NOT NULL,
+    amount DOUBLE NOT NULL,
+    PRIMARY KEY (billing_month, billing_year, company_id),
+    CONSTRAINT fk_bills_company FOREIGN KEY (company_id) REFERENCES companies (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_bills_city ON bills (city);
+CREATE INDEX idx_bills_year_month ON bills (billing_year, billing_month);
+CREATE INDEX idx_bills_amount ON bills (amount);
+CREATE INDEX idx_bills_company_month_year_amount ON bills (company_id, billing_month, billing_year, amount);
+CREATE INDEX idx_bills_month_year_amount ON bills (billing_month, billing_year, amount);
+
+CREATE TABLE bill_monthly_rollups (
+    company_id INTEGER NOT NULL,
+    billing_month INTEGER NOT NULL,
+    bill_count BIGINT NOT NULL,
+    amount_sum DOUBLE NOT NULL,
+    amount_sum_of_squares DOUBLE NOT NULL,
+    min_amount DOUBLE NOT NULL,
+    max_amount DOUBLE NOT NULL,
+    PRIMARY KEY (billing_month, company_id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_rollups_month_company_sums ON bill_monthly_rollups (billing_month, company_id, bill_count, amount_sum);
@@ -0,0 +1,5 @@
+-- idx_bills_month_year_amount duplicates the (billing_month, billing_year) prefix of the primary key.
+-- The primary key is the clustered index of InnoDB, so its range on the month already reads the amounts,
+-- the second index only cost the writes of every bill.
+
+DROP INDEX idx_bills_month_year_amount ON bills;
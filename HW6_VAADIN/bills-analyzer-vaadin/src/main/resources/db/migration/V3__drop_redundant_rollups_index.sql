@@ -0,0 +1,5 @@
+-- idx_rollups_month_company_sums repeats the (billing_month, company_id) primary key of the rollups.
+-- The primary key is the clustered index of InnoDB, so its range on the month already reads the sums,
+-- the second index only cost the upserts of every bill.
+
+DROP INDEX idx_rollups_month_company_sums ON bill_monthly_rollups;
@@ -0,0 +1,112 @@
+package com.acs560.bills_analyzer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.acs560.bills_analyzer.services.BillsService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The connection pool configured by the main application.properties, which the test
+ * application.properties shadows on the test classpath. The hikari properties of the main file
+ * are added to the context, so the pool checked here is the one of production, on the test database.
+ */
+@SpringBootTest
+@ContextConfiguration(initializers = DataSourcePoolTest.MainPoolProperties.class)
+public class DataSourcePoolTest {
+
+	private static final String HIKARI = "spring.datasource.hikari.";
+	
+	@Autowired
+	private DataSource dataSource;
+	
+	@Autowired
+	private MeterRegistry registry;
+	
+	@Autowired
+	private BillsService billsService;
+	
+	@Test
+	public void testPool_shouldUseMainConfiguration() {
+		var hikari = Assertions.assertInstanceOf(HikariDataSource.class, dataSource);
+		var main = mainProperties();
+		
+		Assertions.assertEquals(main.getProperty(HIKARI + "pool-name"), hikari.getPoolName());
+		Assertions.assertEquals(main.getProperty(HIKARI + "maximum-pool-size"), 
+				String.valueOf(hikari.getMaximumPoolSize()));
+		Assertions.assertEquals(main.getProperty(HIKARI + "minimum-idle"), String.valueOf(hikari.getMinimumIdle()));
+		Assertions.assertEquals(main.getProperty(HIKARI + "connection-timeout"), 
+				String.valueOf(hikari.getConnectionTimeout()));
+		Assertions.assertEquals(main.getProperty(HIKARI + "max-lifetime"), String.valueOf(hikari.getMaxLifetime()));
+		Assertions.assertEquals(main.getProperty(HIKARI + "leak-detection-threshold"), 
+				String.valueOf(hikari.getLeakDetectionThreshold()));
+		Assertions.assertTrue(hikari.getLeakDetectionThreshold() > 0);
+	}
+	
+	@Test
+	public void testPool_shouldPublishMetrics() {
+		String pool = mainProperties().getProperty(HIKARI + "pool-name");
+		billsService.getBillsByMonth(1);
+		
+		for (var gauge : new String[] {"hikaricp.connections.active", "hikaricp.connections.idle", 
+				"hikaricp.connections.pending", "hikaricp.connections.max"}) {
+			Assertions.assertNotNull(registry.find(gauge).tag("pool", pool).gauge(), gauge);
+		}
+		
+		var acquire = registry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+		Assertions.assertNotNull(acquire);
+		Assertions.assertTrue(acquire.count() > 0);
+	}
+	
+	/**
+	 * Load the main application.properties, next to the main classes rather than the test resources
+	 * @return - the main properties
+	 */
+	private static Properties mainProperties() {
+		try {
+			var classes = BillsAnalyzerApplication.class.getProtectionDomain().getCodeSource().getLocation();
+			var main = new UrlResource(classes).createRelative("application.properties");
+			
+			Assertions.assertNotEquals(new ClassPathResource("application.properties").getURL(), main.getURL(),
+					"The main and test application.properties must differ");
+			return PropertiesLoaderUtils.loadProperties(main);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Adds the hikari properties of the main application.properties to the test environment
+	 */
+	static class MainPoolProperties implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+		@Override
+		public void initialize(ConfigurableApplicationContext context) {
+			var main = mainProperties();
+			Map<String, Object> pool = main.stringPropertyNames().stream()
+					.filter(name -> name.startsWith(HIKARI))
+					.collect(Collectors.toMap(name -> name, main::getProperty));
+			
+			context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("main-pool", pool));
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.acs560.bills_analyzer;
+
+import java.util.Arrays;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.acs560.bills_analyzer.entities.BillEntityId;
+import com.acs560.bills_analyzer.entities.CompanyEntity;
+import com.acs560.bills_analyzer.repositories.BillsRepository;
+import com.acs560.bills_analyzer.repositories.CompaniesRepository;
+
+/**
+ * The context only starts when the migrated schema validates against the entities
+ */
+@SpringBootTest
+public class DatabaseMigrationsTest {
+
+	@Autowired
+	private Flyway flyway;
+	
+	@Autowired
+	private CompaniesRepository companiesRepository;
+	
+	@Autowired
+	private BillsRepository billsRepository;
+	
+	@Autowired
+	private JdbcTemplate jdbc;
+	
+	@Test
+	public void testMigrate_shouldApplySchemaAndTestData() {
+		var applied = flyway.info().applied();
+		
+		Assertions.assertTrue(Arrays.stream(applied)
+				.anyMatch(m -> m.getVersion() != null && "1".equals(m.getVersion().getVersion())));
+		Assertions.assertTrue(Arrays.stream(applied)
+				.anyMatch(m -> m.getVersion() != null && "2".equals(m.getVersion().getVersion())));
+		Assertions.assertTrue(Arrays.stream(applied)
+				.anyMatch(m -> m.getVersion() != null && "3".equals(m.getVersion().getVersion())));
+		Assertions.assertTrue(Arrays.stream(applied)
+				.anyMatch(m -> m.getVersion() == null && m.getScript().equals("R__test_data.sql")));
+		Assertions.assertTrue(Arrays.stream(applied).allMatch(m -> m.getState() == MigrationState.SUCCESS));
+		Assertions.assertEquals(0, flyway.info().pending().length);
+	}
+	
+	@Test
+	public void testMigrate_shouldDropIndexDuplicatingPrimaryKey() {
+		var indexes = jdbc.queryForList(
+				"SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE UPPER(TABLE_NAME) = 'BILLS'", String.class);
+		
+		Assertions.assertTrue(indexes.stream().anyMatch("IDX_BILLS_COMPANY_MONTH_YEAR_AMOUNT"::equalsIgnoreCase));
+		Assertions.assertTrue(indexes.stream().noneMatch("IDX_BILLS_MONTH_YEAR_AMOUNT"::equalsIgnoreCase));
+	}
+	
+	@Test
+	public void testMigrate_shouldDropRollupsIndexDuplicatingPrimaryKey() {
+		var indexes = jdbc.queryForList(
+				"SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE UPPER(TABLE_NAME) = 'BILL_MONTHLY_ROLLUPS'", 
+				String.class);
+		
+		Assertions.assertTrue(indexes.stream().noneMatch("IDX_ROLLUPS_MONTH_COMPANY_SUMS"::equalsIgnoreCase));
+	}
+	
+	@Test
+	public void testMigrate_shouldLoadTestData() {
+		Assertions.assertEquals("Amazon", companiesRepository.findById(1).orElseThrow().getName());
+		Assertions.assertEquals("Best Buy", companiesRepository.findById(5).orElseThrow().getName());
+		Assertions.assertTrue(billsRepository.existsById(new BillEntityId(1, 2020, 1)));
+	}
+	
+	@Test
+	@Transactional
+	public void testAddCompanyAfterTestData_shouldGenerateNextId() {
+		var company = companiesRepository.save(new CompanyEntity(null, "Costco"));
+		Assertions.assertTrue(company.getId() > 5);
+	}
+}
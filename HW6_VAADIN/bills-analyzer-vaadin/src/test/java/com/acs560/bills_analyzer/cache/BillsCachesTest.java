@@ -0,0 +1,130 @@
+package com.acs560.bills_analyzer.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.acs560.bills_analyzer.events.BillChangedEvent;
+import com.acs560.bills_analyzer.events.ChangeType;
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.requests.CompanyRequest;
+import com.acs560.bills_analyzer.services.BillsAnalysisService;
+import com.acs560.bills_analyzer.services.BillsService;
+import com.acs560.bills_analyzer.services.CompaniesService;
+
+@SpringBootTest
+public class BillsCachesTest {
+
+	private static final Company BEST_BUY = new Company(5, "Best Buy");
+	
+	@Autowired
+	private BillsCaches caches;
+	
+	@Autowired
+	private BillsAnalysisService billsAnalysisService;
+	
+	@Autowired
+	private BillsService billsService;
+	
+	@Autowired
+	private CompaniesService companiesService;
+	
+	@BeforeEach
+	public void clearCaches() {
+		caches.invalidateAll();
+	}
+	
+	@Test
+	public void testRepeatedAverage_shouldHitCache() {
+		long hits = caches.getStats().get("bills").hitCount();
+		
+		var first = billsAnalysisService.calculateAverageForMonthRange(3, 1);
+		var second = billsAnalysisService.calculateAverageForMonthRange(3, 1);
+		
+		Assertions.assertEquals(first, second);
+		Assertions.assertEquals(hits + 1, caches.getStats().get("bills").hitCount());
+	}
+	
+	@Test
+	public void testWriteOutsideRange_shouldKeepCachedAverage() {
+		billsAnalysisService.calculateAverage(BEST_BUY.getId(), 3, 1);
+		long invalidations = caches.getInvalidationCount();
+		
+		final Bill bill = new Bill(8, 2097, BEST_BUY, "Fort Wayne", 10.0);
+		billsService.add(bill);
+		billsService.delete(bill);
+		
+		Assertions.assertEquals(invalidations, caches.getInvalidationCount());
+	}
+	
+	@Test
+	public void testWriteInsideRange_shouldEvictCachedAverage() {
+		var before = billsAnalysisService.calculateAverage(BEST_BUY.getId(), 12, 1);
+		
+		final Bill bill = new Bill(1, 2097, BEST_BUY, "Fort Wayne", 10.0);
+		billsService.add(bill);
+		
+		try {
+			var after = billsAnalysisService.calculateAverage(BEST_BUY.getId(), 12, 1);
+			Assertions.assertTrue(after < before);
+		} finally {
+			billsService.delete(bill);
+		}
+		
+		Assertions.assertEquals(before, billsAnalysisService.calculateAverage(BEST_BUY.getId(), 12, 1), 0.01);
+	}
+	
+	@Test
+	public void testCommitDuringLoad_shouldNotKeepOutdatedResult() throws Exception {
+		var key = CacheKey.of("test", BEST_BUY.getId(), CacheKey.ALL_MONTHS);
+		var loading = new CountDownLatch(1);
+		var committed = new CountDownLatch(1);
+		
+		var load = CompletableFuture.supplyAsync(() -> caches.getBills(key, () -> {
+			loading.countDown();
+			try {
+				committed.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "before commit";
+		}));
+		
+		Assertions.assertTrue(loading.await(10, TimeUnit.SECONDS));
+		caches.onBillChanged(new BillChangedEvent(new Bill(1, 2097, BEST_BUY, "Fort Wayne", 10.0), ChangeType.ADDED));
+		committed.countDown();
+		
+		Assertions.assertEquals("before commit", load.get(10, TimeUnit.SECONDS));
+		Assertions.assertEquals("after commit", caches.getBills(key, () -> "after commit"));
+	}
+	
+	@Test
+	public void testCompaniesSnapshot_shouldBeSharedUntilCompanyChange() {
+		var snapshot = companiesService.getSnapshot();
+		
+		Assertions.assertSame(snapshot, companiesService.getSnapshot());
+		Assertions.assertSame(snapshot.getCompanies(), companiesService.getCompanies());
+		Assertions.assertEquals(BEST_BUY, companiesService.getCompany(BEST_BUY.getId()).get());
+		
+		var added = companiesService.addCompany(new CompanyRequest("Snapshot Test Company"));
+		
+		try {
+			var refreshed = companiesService.getSnapshot();
+			
+			Assertions.assertTrue(refreshed.getVersion() > snapshot.getVersion());
+			Assertions.assertEquals(added, refreshed.getCompany("Snapshot Test Company").get());
+			Assertions.assertTrue(snapshot.getCompany("Snapshot Test Company").isEmpty());
+		} finally {
+			companiesService.deleteCompany(added.getId());
+		}
+		
+		Assertions.assertTrue(companiesService.getSnapshot().getCompany(added.getId()).isEmpty());
+	}
+}
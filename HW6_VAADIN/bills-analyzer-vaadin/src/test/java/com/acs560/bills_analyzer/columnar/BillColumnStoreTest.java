@@ -0,0 +1,102 @@
+package com.acs560.bills_analyzer.columnar;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.models.MonthRange;
+import com.acs560.bills_analyzer.repositories.BillMonthlyRollupsRepository;
+import com.acs560.bills_analyzer.services.BillsAnalysisService;
+import com.acs560.bills_analyzer.services.BillsImportService;
+import com.acs560.bills_analyzer.services.BillsService;
+
+@SpringBootTest(properties = "bills.columnar.enabled=true")
+public class BillColumnStoreTest {
+
+	private static final Company BEST_BUY = new Company(5, "Best Buy");
+	
+	@Autowired
+	private BillColumnStore billColumnStore;
+	
+	@Autowired
+	private BillsService billsService;
+	
+	@Autowired
+	private BillsAnalysisService billsAnalysisService;
+	
+	@Autowired
+	private BillsImportService billsImportService;
+	
+	@Autowired
+	private BillMonthlyRollupsRepository billMonthlyRollupsRepository;
+	
+	@Test
+	public void testAverages_shouldMatchRollups() {
+		var months = MonthRange.of(2, 1);
+		
+		Assertions.assertEquals(billMonthlyRollupsRepository.calculateAverage(months), 
+				billsAnalysisService.calculateAverageForMonthRange(2, 1), 1e-9);
+		Assertions.assertEquals(billMonthlyRollupsRepository.calculateAverage(months, BEST_BUY.getId()), 
+				billsAnalysisService.calculateAverage(BEST_BUY.getId(), 2, 1), 1e-9);
+		Assertions.assertTrue(billColumnStore.average(BEST_BUY.getId(), MonthRange.of(12)).isEmpty());
+	}
+	
+	@Test
+	public void testStatistics_shouldCountBillsInYears() {
+		var statistics = billsAnalysisService.calculateStatistics(1, 0, 2020, 2020);
+		
+		Assertions.assertEquals(3, statistics.getCount());
+	}
+	
+	@Test
+	public void testWrites_shouldKeepStoreInSync() {
+		int size = billColumnStore.size();
+		var bill = new Bill(12, 2095, BEST_BUY, "Fort Wayne", 100.0);
+		
+		try {
+			billsService.add(bill);
+			Assertions.assertEquals(size + 1, billColumnStore.size());
+			Assertions.assertEquals(100.0, billColumnStore.average(BEST_BUY.getId(), MonthRange.of(12)).getAsDouble());
+			
+			billsService.update(new Bill(12, 2095, BEST_BUY, "Fort Wayne", 300.0));
+			Assertions.assertEquals(300.0, billColumnStore.average(BEST_BUY.getId(), MonthRange.of(12)).getAsDouble());
+			
+			billsService.addAll(List.of(new Bill(12, 2096, BEST_BUY, "Fort Wayne", 100.0)));
+			Assertions.assertEquals(200.0, billColumnStore.average(BEST_BUY.getId(), MonthRange.of(12)).getAsDouble());
+		} finally {
+			billsService.deleteAll(List.of(bill, new Bill(12, 2096, BEST_BUY, "Fort Wayne", 100.0)));
+		}
+		
+		Assertions.assertEquals(size, billColumnStore.size());
+		Assertions.assertTrue(billColumnStore.estimatedBytes() >= size * 24L);
+	}
+	
+	@Test
+	public void testImport_shouldAddImportedBills() {
+		int size = billColumnStore.size();
+		var imported = List.of(new Bill(11, 2095, BEST_BUY, "Fort Wayne", 100.0), 
+				new Bill(11, 2096, BEST_BUY, "Fort Wayne", 200.0));
+		
+		try {
+			var result = billsImportService.importBills(new StringReader("""
+					month,year,company,city,amount
+					11,2095,Best Buy,Fort Wayne,100.0
+					11,2096,Best Buy,Fort Wayne,200.0
+					"""));
+			
+			Assertions.assertEquals(2, result.getAccepted());
+			Assertions.assertEquals(size + 2, billColumnStore.size());
+			Assertions.assertEquals(150.0, billColumnStore.average(BEST_BUY.getId(), MonthRange.of(11)).getAsDouble());
+		} finally {
+			billsService.deleteAll(imported);
+		}
+		
+		Assertions.assertEquals(size, billColumnStore.size());
+	}
+}
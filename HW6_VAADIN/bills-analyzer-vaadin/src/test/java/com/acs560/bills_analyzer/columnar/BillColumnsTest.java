@@ -0,0 +1,109 @@
+package com.acs560.bills_analyzer.columnar;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.acs560.bills_analyzer.models.MonthRange;
+import com.acs560.bills_analyzer.services.impl.BillStatisticsAccumulator;
+
+public class BillColumnsTest {
+
+	private static final int ROWS = BillColumns.ROWS_PER_TASK * 10 + 123;
+	
+	@Test
+	public void testParallelAggregate_shouldMatchSequentialAggregate() {
+		var columns = columns(ROWS);
+		int mask = MonthRange.of(12, 1).getMask();
+		var pool = new ForkJoinPool(4);
+		
+		try {
+			var sequential = columns.aggregate(null, mask, 2000, 2010, 
+					BillStatisticsAccumulator::new, BillStatisticsAccumulator::merge, null).toStatistics();
+			var parallel = columns.aggregate(null, mask, 2000, 2010, 
+					BillStatisticsAccumulator::new, BillStatisticsAccumulator::merge, pool).toStatistics();
+			
+			Assertions.assertEquals(sequential.getCount(), parallel.getCount());
+			Assertions.assertEquals(sequential.getMean(), parallel.getMean(), 1e-6);
+			Assertions.assertEquals(sequential.getVariance(), parallel.getVariance(), 1e-3);
+			Assertions.assertEquals(sequential.getP95(), parallel.getP95());
+			
+			var sequentialSum = columns.aggregate(3, mask, Integer.MIN_VALUE, Integer.MAX_VALUE, 
+					AmountSum::new, AmountSum::merge, null);
+			var parallelSum = columns.aggregate(3, mask, Integer.MIN_VALUE, Integer.MAX_VALUE, 
+					AmountSum::new, AmountSum::merge, pool);
+			
+			Assertions.assertEquals(sequentialSum.getCount(), parallelSum.getCount());
+			Assertions.assertEquals(sequentialSum.average().getAsDouble(), parallelSum.average().getAsDouble(), 1e-6);
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	@Test
+	public void testRemove_shouldMoveLastRow() {
+		var columns = new BillColumns();
+		columns.append(1, 2020, 1, "New York", 10.0);
+		columns.append(2, 2020, 1, "New York", 20.0);
+		columns.append(3, 2020, 1, "Chicago", 30.0);
+		
+		columns.remove(columns.find(1, 2020, 1));
+		
+		Assertions.assertEquals(2, columns.size());
+		Assertions.assertEquals(-1, columns.find(1, 2020, 1));
+		Assertions.assertEquals(0, columns.find(3, 2020, 1));
+		Assertions.assertEquals(25.0, columns.aggregate(1, MonthRange.of(3, 1).getMask(), 2020, 2020, 
+				AmountSum::new, AmountSum::merge, null).average().getAsDouble());
+	}
+	
+	@Test
+	public void testFind_shouldFollowAppendsAndRemoves() {
+		var random = new Random(7);
+		var columns = new BillColumns(16);
+		Set<List<Integer>> stored = new HashSet<>();
+		
+		for (int i = 0; i < 20_000; i++) {
+			int month = random.nextInt(12) + 1;
+			int year = 2000 + random.nextInt(30);
+			int companyId = random.nextInt(40) + 1;
+			int row = columns.find(month, year, companyId);
+			
+			Assertions.assertEquals(stored.contains(List.of(month, year, companyId)), row >= 0);
+			
+			if (row >= 0) {
+				columns.remove(row);
+				stored.remove(List.of(month, year, companyId));
+			} else {
+				columns.append(month, year, companyId, "Fort Wayne", i);
+				stored.add(List.of(month, year, companyId));
+			}
+		}
+		
+		columns.removeCompany(3);
+		stored.removeIf(key -> key.get(2) == 3);
+		
+		Assertions.assertEquals(stored.size(), columns.size());
+		
+		for (var key : stored) {
+			Assertions.assertTrue(columns.find(key.get(0), key.get(1), key.get(2)) >= 0);
+		}
+		Assertions.assertEquals(-1, columns.find(1, 2000, 3));
+	}
+	
+	private static BillColumns columns(int rows) {
+		var random = new Random(11);
+		var columns = new BillColumns(rows);
+		
+		for (int i = 0; i < rows; i++) {
+			columns.append(random.nextInt(12) + 1, 1995 + random.nextInt(20), random.nextInt(5) + 1, 
+					"Fort Wayne", Math.round(random.nextDouble() * 500_000) / 100.0);
+		}
+		
+		return columns;
+	}
+}
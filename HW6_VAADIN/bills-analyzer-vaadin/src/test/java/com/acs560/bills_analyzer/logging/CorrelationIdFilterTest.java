@@ -0,0 +1,57 @@
+package com.acs560.bills_analyzer.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class CorrelationIdFilterTest {
+
+	private final CorrelationIdFilter filter = new CorrelationIdFilter();
+	
+	@Test
+	public void testFilter_shouldPutIdsDuringRequest() throws Exception {
+		var request = new MockHttpServletRequest("POST", "/");
+		request.setQueryString("v-r=uidl&v-uiId=3");
+		request.getSession(true);
+		var response = new MockHttpServletResponse();
+		Map<String, String> mdc = new HashMap<>();
+		
+		filter.doFilter(request, response, (req, res) -> mdc.putAll(MDC.getCopyOfContextMap()));
+		
+		String id = response.getHeader(CorrelationIdFilter.HEADER);
+		Assertions.assertNotNull(id);
+		Assertions.assertEquals(id, mdc.get(CorrelationIdFilter.CORRELATION_ID));
+		Assertions.assertTrue(mdc.get(CorrelationIdFilter.UI_ID).endsWith(":3"));
+		
+		Assertions.assertNull(MDC.get(CorrelationIdFilter.CORRELATION_ID));
+		Assertions.assertNull(MDC.get(CorrelationIdFilter.UI_ID));
+	}
+	
+	@Test
+	public void testFilter_shouldKeepValidIncomingId() throws Exception {
+		var request = new MockHttpServletRequest("GET", "/api/bills");
+		request.addHeader(CorrelationIdFilter.HEADER, "abc-123");
+		var response = new MockHttpServletResponse();
+		
+		filter.doFilter(request, response, (req, res) -> 
+				Assertions.assertNull(MDC.get(CorrelationIdFilter.UI_ID)));
+		
+		Assertions.assertEquals("abc-123", response.getHeader(CorrelationIdFilter.HEADER));
+	}
+	
+	@Test
+	public void testFilter_shouldReplaceInvalidIncomingId() throws Exception {
+		var request = new MockHttpServletRequest("GET", "/api/bills");
+		request.addHeader(CorrelationIdFilter.HEADER, "abc\r\nforged=1");
+		var response = new MockHttpServletResponse();
+		
+		filter.doFilter(request, response, (req, res) -> {});
+		
+		Assertions.assertNotEquals("abc\r\nforged=1", response.getHeader(CorrelationIdFilter.HEADER));
+	}
+}
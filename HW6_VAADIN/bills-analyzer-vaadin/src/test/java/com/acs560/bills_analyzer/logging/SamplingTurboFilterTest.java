@@ -0,0 +1,82 @@
+package com.acs560.bills_analyzer.logging;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+public class SamplingTurboFilterTest {
+
+	private LoggerContext context;
+	private SamplingTurboFilter filter;
+	
+	@BeforeEach
+	public void setUp() {
+		context = new LoggerContext();
+		filter = new SamplingTurboFilter();
+		filter.setContext(context);
+		filter.setLoggerName("org.hibernate.SQL");
+		filter.setFollowerName("org.hibernate.orm.jdbc.bind");
+		filter.setRate(10);
+		filter.start();
+	}
+	
+	@Test
+	public void testDecide_shouldKeepOneInRate() {
+		var logger = context.getLogger("org.hibernate.SQL");
+		int kept = 0;
+		
+		for (int i = 0; i < 100; i++) {
+			if (filter.decide(null, logger, Level.DEBUG, "select 1", null, null) == FilterReply.NEUTRAL) {
+				kept++;
+			}
+		}
+		
+		Assertions.assertEquals(10, kept);
+	}
+	
+	@Test
+	public void testDecide_shouldKeepBindsOfKeptStatements() {
+		var sql = context.getLogger("org.hibernate.SQL");
+		var bind = context.getLogger("org.hibernate.orm.jdbc.bind");
+		int keptStatements = 0;
+		int keptBinds = 0;
+		
+		for (int i = 0; i < 100; i++) {
+			boolean statement = filter.decide(null, sql, Level.DEBUG, "select ?, ?", null, null) == FilterReply.NEUTRAL;
+			
+			for (int parameter = 1; parameter <= 2; parameter++) {
+				boolean parameterKept = filter.decide(null, bind, Level.TRACE, "binding parameter", null, null) 
+						== FilterReply.NEUTRAL;
+				Assertions.assertEquals(statement, parameterKept);
+				keptBinds += parameterKept ? 1 : 0;
+			}
+			keptStatements += statement ? 1 : 0;
+		}
+		
+		Assertions.assertEquals(10, keptStatements);
+		Assertions.assertEquals(20, keptBinds);
+	}
+	
+	@Test
+	public void testDecide_shouldNotSampleOtherLoggersOrWarnings() {
+		for (int i = 0; i < 10; i++) {
+			Assertions.assertEquals(FilterReply.NEUTRAL, 
+					filter.decide(null, context.getLogger("org.hibernate.SQL_SLOW"), Level.INFO, "slow", null, null));
+			Assertions.assertEquals(FilterReply.NEUTRAL, 
+					filter.decide(null, context.getLogger("org.hibernate.SQL"), Level.WARN, "warn", null, null));
+		}
+	}
+	
+	@Test
+	public void testDecide_shouldNotSampleEnabledChecks() {
+		var logger = context.getLogger("org.hibernate.SQL");
+		
+		for (int i = 0; i < 10; i++) {
+			Assertions.assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.DEBUG, null, null, null));
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.acs560.bills_analyzer.metrics;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.acs560.bills_analyzer.services.BillsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+@SpringBootTest
+@AutoConfigureObservability(tracing = false)
+public class MethodMetricsTest {
+
+	@Autowired
+	private BillsService billsService;
+	
+	@Autowired
+	private MeterRegistry registry;
+	
+	@Autowired
+	private PrometheusMeterRegistry prometheus;
+	
+	@Test
+	public void testRecord_shouldTimeServicesAndRepositories() {
+		var bills = billsService.getBillsByMonth(1);
+		
+		var service = registry.find("bills.service")
+				.tags("class", "BillsServiceImpl", "method", "getBillsByMonth(int)", "exception", "none").timer();
+		Assertions.assertNotNull(service);
+		Assertions.assertTrue(service.count() > 0);
+		
+		var rows = registry.find("bills.service.rows")
+				.tags("class", "BillsServiceImpl", "method", "getBillsByMonth(int)").summary();
+		Assertions.assertNotNull(rows);
+		Assertions.assertEquals(bills.size(), rows.max());
+		
+		var repository = registry.find("bills.repository")
+				.tags("class", "BillsRepository", "method", "findBillsByMonth(int, Sort)").timer();
+		Assertions.assertNotNull(repository);
+		Assertions.assertTrue(repository.count() > 0);
+	}
+	
+	@Test
+	public void testRecord_shouldCountNotFound() {
+		Assertions.assertThrows(NoSuchElementException.class, () -> billsService.getBillsByMonth(12));
+		
+		var notFound = registry.find("bills.service.not.found")
+				.tags("class", "BillsServiceImpl", "method", "getBillsByMonth(int)").counter();
+		Assertions.assertNotNull(notFound);
+		Assertions.assertTrue(notFound.count() > 0);
+		
+		Assertions.assertNotNull(registry.find("bills.service")
+				.tags("method", "getBillsByMonth(int)", "exception", "NoSuchElementException").timer());
+	}
+	
+	@Test
+	public void testRecord_shouldTagOverloadsApart() {
+		billsService.getBills();
+		billsService.getBills(PageRequest.of(0, 5));
+		
+		Assertions.assertNotNull(registry.find("bills.service")
+				.tags("class", "BillsServiceImpl", "method", "getBills()").timer());
+		Assertions.assertNotNull(registry.find("bills.service")
+				.tags("class", "BillsServiceImpl", "method", "getBills(Pageable)").timer());
+	}
+	
+	@Test
+	public void testScrape_shouldPublishHistograms() {
+		billsService.getBillsByMonth(2);
+		
+		String scrape = prometheus.scrape();
+		Assertions.assertTrue(scrape.contains("bills_service_seconds_bucket"));
+		Assertions.assertTrue(scrape.contains("bills_repository_seconds_bucket"));
+		Assertions.assertTrue(scrape.contains("bills_service_rows_bucket"));
+	}
+	
+	@Test
+	public void testRowsOf_shouldCountResults() throws Throwable {
+		Assertions.assertEquals(3, MethodMetrics.rowsOf(List.of(1, 2, 3)));
+		Assertions.assertEquals(1, MethodMetrics.rowsOf(Optional.of(1)));
+		Assertions.assertEquals(0, MethodMetrics.rowsOf(Optional.empty()));
+		Assertions.assertEquals(-1, MethodMetrics.rowsOf(2.5));
+		
+		var simple = new SimpleMeterRegistry();
+		new MethodMetrics(simple, "test").record("Type", "method", () -> 2.5);
+		
+		Assertions.assertEquals(1, simple.get("test").timer().count());
+		Assertions.assertEquals(0, simple.get("test.rows").summary().count());
+	}
+}
@@ -0,0 +1,35 @@
+package com.acs560.bills_analyzer.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CompaniesSnapshotTest {
+
+	@Test
+	public void testSnapshot_shouldSortAndIndexCompanies() {
+		var snapshot = new CompaniesSnapshot(3, List.of(new Company(2, "Walmart"), new Company(1, "Amazon")));
+		
+		Assertions.assertEquals(3, snapshot.getVersion());
+		Assertions.assertEquals(List.of(new Company(1, "Amazon"), new Company(2, "Walmart")), snapshot.getCompanies());
+		Assertions.assertEquals("Walmart", snapshot.getCompany(2).get().getName());
+		Assertions.assertEquals(1, snapshot.getCompany("Amazon").get().getId());
+		Assertions.assertTrue(snapshot.getCompany(3).isEmpty());
+		Assertions.assertTrue(snapshot.getCompany("Target").isEmpty());
+	}
+	
+	@Test
+	public void testSnapshot_shouldNotChangeWithSource() {
+		List<Company> source = new ArrayList<>(List.of(new Company(1, "Amazon")));
+		var snapshot = new CompaniesSnapshot(0, source);
+		
+		source.set(0, new Company(1, "Renamed"));
+		source.add(new Company(2, "Walmart"));
+		
+		Assertions.assertEquals(1, snapshot.size());
+		Assertions.assertEquals("Amazon", snapshot.getCompany(1).get().getName());
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.getCompanies().clear());
+	}
+}
@@ -0,0 +1,64 @@
+package com.acs560.bills_analyzer.models;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MonthRangeTest {
+
+	@Test
+	public void testAllRanges_shouldMatchMonthsAroundMonth() {
+		for (int month = 1; month <= 12; month++) {
+			for (int range = 0; range <= MonthRange.MAX_RANGE; range++) {
+				var monthRange = MonthRange.of(month, range);
+				Set<Integer> expected = new HashSet<>();
+				
+				for (int i = month - range; i <= month + range; i++) {
+					expected.add(i < 1 ? i + 12 : i > 12 ? i - 12 : i);
+				}
+				
+				Assertions.assertEquals(expected, monthRange.getMonths());
+				
+				Assertions.assertEquals(MonthRange.MAX_MONTHS, monthRange.getQueryMonths().size());
+				Assertions.assertEquals(expected, new HashSet<>(monthRange.getQueryMonths()));
+				
+				for (int m = 1; m <= 12; m++) {
+					Assertions.assertEquals(expected.contains(m), monthRange.contains(m));
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testGetRangeWrappingYear_shouldReturnMask() {
+		Assertions.assertEquals(0b1100_0000_0111, MonthRange.of(1, 2).getMask());
+	}
+	
+	@Test
+	public void testGetQueryMonths_shouldPadWithMonth() {
+		Assertions.assertEquals(List.of(7, 8, 9, 8, 8, 8, 8, 8, 8, 8, 8), MonthRange.of(8, 1).getQueryMonths());
+	}
+	
+	@Test
+	public void testGetRangeTwice_shouldReturnSameInstance() {
+		Assertions.assertSame(MonthRange.of(6, 3), MonthRange.of(6, 3));
+		Assertions.assertSame(MonthRange.of(6, 0), MonthRange.of(6));
+	}
+	
+	@Test
+	public void testGetRangeOutOfBounds_shouldThrowException() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> MonthRange.of(0, 1));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> MonthRange.of(13, 1));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> MonthRange.of(6, 6));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> MonthRange.of(6, -1));
+	}
+	
+	@Test
+	public void testGetMonths_shouldBeUnmodifiable() {
+		Assertions.assertThrows(UnsupportedOperationException.class, 
+				() -> MonthRange.of(6, 1).getMonths().add(1));
+	}
+}
@@ -0,0 +1,157 @@
+package com.acs560.bills_analyzer.repositories;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.acs560.bills_analyzer.entities.BillEntityId;
+import com.acs560.bills_analyzer.entities.BillMonthlyRollupEntityId;
+import com.acs560.bills_analyzer.models.MonthRange;
+
+/**
+ * Checks with EXPLAIN that the repository queries of the access patterns 
+ * use an index of the bills, rollups and companies tables instead of scanning them.
+ * The full rebuild of the rollups, the export and the searches without criteria 
+ * read every bill by design and are not checked.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.acs560.bills_analyzer.repositories.RepositoryIndexesTest$SqlRecorder")
+@Transactional
+public class RepositoryIndexesTest {
+
+	private static final Sort SORT = Sort.by("id.billingYear", "id.billingMonth", "company.name");
+	private static final Pattern FULL_SCAN = Pattern.compile("(bills|bill_monthly_rollups|companies)\\.tableScan");
+	
+	@Autowired
+	private BillsRepository br;
+	
+	@Autowired
+	private BillMonthlyRollupsRepository rr;
+	
+	@Autowired
+	private CompaniesRepository cr;
+	
+	@Autowired
+	private JdbcTemplate jdbc;
+	
+	@Test
+	public void testBillsFinders_shouldUseIndexes() {
+		assertUsesIndexes(() -> br.findBillsByCompany(1, SORT));
+		assertUsesIndexes(() -> br.findBillsByMonth(2, SORT));
+		assertUsesIndexes(() -> br.findBillsByCompanyAndMonth(1, 2, SORT));
+		assertUsesIndexes(() -> br.findBill(2, 2020, 1));
+		assertUsesIndexes(() -> br.findAllByIdBillingMonthAndIdBillingYearAndIdCompanyId(2, 2020, 1));
+		assertUsesIndexes(() -> br.findAllByIdIn(List.of(new BillEntityId(2, 2020, 1))));
+		assertUsesIndexes(() -> br.findBillsInMonths(MonthRange.of(1, 2), SORT));
+		assertUsesIndexes(() -> br.findBillsByCompanyInMonths(1, MonthRange.of(1, 2), SORT));
+	}
+	
+	@Test
+	public void testBillsSearches_shouldUseIndexesOfSuppliedCriteria() {
+		var page = PageRequest.of(0, 50, SORT);
+		
+		assertUsesIndexes(() -> br.searchBills(null, "San%", null, null, null, null, page));
+		assertUsesIndexes(() -> br.searchBills(null, null, 2, 2020, null, null, page));
+		assertUsesIndexes(() -> br.searchBills(null, null, null, null, 1000.0, 2000.0, page));
+		assertUsesIndexes(() -> {
+			try (var bills = br.streamSearch(null, null, 2, null, null, null, SORT)) {
+				bills.count();
+			}
+		});
+	}
+	
+	@Test
+	public void testStreamAmounts_shouldUseIndexes() {
+		assertUsesIndexes(() -> {
+			try (var amounts = br.streamAmounts(null, MonthRange.of(12, 1), 2020, 2021)) {
+				amounts.count();
+			}
+		});
+		assertUsesIndexes(() -> {
+			try (var amounts = br.streamAmounts(1, MonthRange.of(12, 1), 2020, 2021)) {
+				amounts.count();
+			}
+		});
+	}
+	
+	@Test
+	public void testRollupQueries_shouldUseIndexes() {
+		assertUsesIndexes(() -> rr.aggregateFromBills(1, 2));
+		assertUsesIndexes(() -> rr.findWithLockById(new BillMonthlyRollupEntityId(1, 2)));
+		assertUsesIndexes(() -> rr.calculateAverage(2));
+		assertUsesIndexes(() -> rr.calculateAverage(2, 1));
+		assertUsesIndexes(() -> rr.calculateAverage(MonthRange.of(1, 2)));
+		assertUsesIndexes(() -> rr.calculateAverage(MonthRange.of(1, 2), 1));
+	}
+	
+	@Test
+	public void testCompaniesPrefixSearch_shouldUseNameIndex() {
+		assertUsesIndexes(() -> cr.findByNameStartingWith("Am", PageRequest.of(0, 50, Sort.by("name"))));
+		assertUsesIndexes(() -> cr.findByName("Amazon"));
+	}
+	
+	private void assertUsesIndexes(Runnable query) {
+		SqlRecorder.STATEMENTS.clear();
+		query.run();
+		
+		var statements = List.copyOf(SqlRecorder.STATEMENTS);
+		Assertions.assertFalse(statements.isEmpty());
+		
+		for (var sql : statements) {
+			var plan = explain(sql);
+			Assertions.assertFalse(FULL_SCAN.matcher(plan).find(), plan);
+		}
+	}
+	
+	/**
+	 * Explain a statement with every parameter bound to 1, 
+	 * the plans do not depend on the values
+	 */
+	private String explain(String sql) {
+		return jdbc.execute((ConnectionCallback<String>) connection -> {
+			try (var statement = connection.prepareStatement("EXPLAIN " + sql)) {
+				int parameters = statement.getParameterMetaData().getParameterCount();
+				
+				for (int i = 1; i <= parameters; i++) {
+					statement.setInt(i, 1);
+				}
+				
+				try (ResultSet plan = statement.executeQuery()) {
+					var text = new StringBuilder();
+					while (plan.next()) {
+						text.append(plan.getString(1)).append('\n');
+					}
+					return text.toString();
+				}
+			}
+		});
+	}
+	
+	/**
+	 * Records the SQL of the statements Hibernate prepares
+	 */
+	public static class SqlRecorder implements StatementInspector {
+
+		private static final long serialVersionUID = 1L;
+		
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+		
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.acs560.bills_analyzer.search;
+
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.repositories.CompaniesRepository;
+import com.acs560.bills_analyzer.requests.CompanyRequest;
+import com.acs560.bills_analyzer.services.CompaniesService;
+
+@SpringBootTest
+public class CompanyNameIndexTest {
+
+	@Autowired
+	private CompanyNameIndex nameIndex;
+	
+	@Autowired
+	private CompaniesService companiesService;
+	
+	@Autowired
+	private CompaniesRepository cr;
+	
+	/**
+	 * The LIKE of the test database is case sensitive, unlike the index and MySQL,
+	 * so the filters only match lower case letters
+	 */
+	@Test
+	public void testSearch_shouldMatchSqlContains() {
+		for (String filter : new String[] {"ma", "ar", "est", "xyz"}) {
+			var indexed = nameIndex.search(filter, Integer.MAX_VALUE).get();
+			var sql = new HashSet<Company>();
+			cr.findByNameContainsOrderByName(filter, Limit.unlimited()).forEach(ce -> sql.add(new Company(ce)));
+			
+			Assertions.assertEquals(sql, new HashSet<>(indexed), filter);
+		}
+	}
+	
+	@Test
+	public void testSearch_shouldIgnoreCase() {
+		Assertions.assertEquals("Best Buy", nameIndex.search("BEST", 1).get().get(0).getName());
+	}
+	
+	@Test
+	public void testCompanyWrites_shouldUpdateIndex() {
+		var added = companiesService.addCompany(new CompanyRequest("Trigram Index Store"));
+		
+		try {
+			Assertions.assertEquals(added, companiesService.getCompanies("index st").get(0));
+			
+			var updated = companiesService.updateCompany(added.getId(), new CompanyRequest("Renamed Index Store"));
+			Assertions.assertEquals(updated, companiesService.getCompanies("renamed").get(0));
+			Assertions.assertTrue(companiesService.getCompanies("trigram").isEmpty());
+		} finally {
+			companiesService.deleteCompany(added.getId());
+		}
+		
+		Assertions.assertTrue(companiesService.getCompanies("index st").isEmpty());
+	}
+}
@@ -0,0 +1,77 @@
+package com.acs560.bills_analyzer.search;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+	private TrigramIndex index;
+	
+	@BeforeEach
+	public void setUp() {
+		index = new TrigramIndex();
+		index.put(1, "Amazon");
+		index.put(2, "Best Buy");
+		index.put(3, "Buy More");
+		index.put(4, "Bestbuy Outlet");
+		index.put(5, "IKEA");
+	}
+	
+	@Test
+	public void testSearch_shouldRankPrefixThenWordThenPosition() {
+		Assertions.assertEquals(List.of(3, 2, 4), index.search("buy"));
+	}
+	
+	@Test
+	public void testSearch_withLimit_shouldKeepBestRanked() {
+		Assertions.assertEquals(List.of(3, 2), index.search("buy", 2));
+		Assertions.assertEquals(List.of(3, 2, 4), index.search("buy", 10));
+		
+		for (int id = 10; id < 1000; id++) {
+			index.put(id, "Store " + (id * 7919 % 1000) + " Buy");
+		}
+		var all = index.search("buy");
+		Assertions.assertEquals(all.subList(0, 50), index.search("buy", 50));
+		Assertions.assertEquals(all.subList(0, 5), index.search("bu", 5));
+	}
+	
+	@Test
+	public void testSearch_withLimitBelowOne_shouldFindNothing() {
+		Assertions.assertEquals(List.of(), index.search("buy", 0));
+		Assertions.assertEquals(List.of(), index.search("bu", -1));
+	}
+	
+	@Test
+	public void testSearch_shouldIgnoreCase() {
+		Assertions.assertEquals(List.of(5), index.search("kea"));
+		Assertions.assertEquals(List.of(1), index.search("AMAZ"));
+	}
+	
+	@Test
+	public void testSearch_shouldCheckCandidates() {
+		// Every trigram of the query but not the query itself
+		index.put(6, "st at bu");
+		Assertions.assertEquals(List.of(2), index.search("st bu"));
+		Assertions.assertTrue(index.search("bestbuyoutlet").isEmpty());
+	}
+	
+	@Test
+	public void testSearch_shortQuery_shouldScanTexts() {
+		Assertions.assertEquals(List.of(2, 4), index.search("be"));
+		Assertions.assertEquals(5, index.search("").size());
+	}
+	
+	@Test
+	public void testPutAndRemove_shouldUpdatePostings() {
+		index.put(1, "Amazing Stores");
+		Assertions.assertTrue(index.search("amazon").isEmpty());
+		Assertions.assertEquals(List.of(1), index.search("amazing"));
+		
+		index.remove(2);
+		Assertions.assertEquals(List.of(3, 4), index.search("buy"));
+		Assertions.assertEquals(4, index.size());
+	}
+}
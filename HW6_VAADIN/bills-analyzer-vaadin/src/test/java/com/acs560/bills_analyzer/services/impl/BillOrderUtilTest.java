@@ -0,0 +1,76 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+
+public class BillOrderUtilTest {
+
+	private static final List<Company> COMPANIES = List.of(new Company(1, "Amazon"), new Company(2, "Walmart"),
+			new Company(3, "IKEA"), new Company(4, "Target"), new Company(5, "Best Buy"));
+	
+	@Test
+	public void testSortShuffledBills_shouldMatchComparatorOrder() {
+		List<Bill> bills = bills(5000);
+		List<Bill> expected = new ArrayList<>(bills);
+		expected.sort(Bill.ORDER);
+		
+		BillOrderUtil.sort(bills);
+		
+		Assertions.assertEquals(expected, bills);
+		Assertions.assertTrue(BillOrderUtil.isSorted(bills));
+	}
+	
+	@Test
+	public void testSortEqualBills_shouldKeepTheirOrder() {
+		var first = new Bill(1, 2020, COMPANIES.get(0), "New York", 1.0);
+		var second = new Bill(1, 2020, COMPANIES.get(0), "Chicago", 2.0);
+		var earlier = new Bill(12, 2019, COMPANIES.get(1), "Boston", 3.0);
+		List<Bill> bills = new ArrayList<>(List.of(first, second, earlier));
+		
+		BillOrderUtil.sort(bills);
+		
+		Assertions.assertSame(earlier, bills.get(0));
+		Assertions.assertSame(first, bills.get(1));
+		Assertions.assertSame(second, bills.get(2));
+	}
+	
+	@Test
+	public void testSortYearOutOfKeyRange_shouldFallBackToComparator() {
+		var negative = new Bill(1, -1, COMPANIES.get(0), "New York", 1.0);
+		var large = new Bill(1, 20000, COMPANIES.get(0), "New York", 1.0);
+		var regular = new Bill(1, 2020, COMPANIES.get(0), "New York", 1.0);
+		List<Bill> bills = new ArrayList<>(List.of(large, regular, negative));
+		
+		BillOrderUtil.sort(bills);
+		
+		Assertions.assertEquals(List.of(negative, regular, large), bills);
+	}
+	
+	@Test
+	public void testIsSortedUnsortedBills_shouldReturnFalse() {
+		List<Bill> bills = bills(100);
+		
+		Assertions.assertFalse(BillOrderUtil.isSorted(bills));
+		Assertions.assertTrue(BillOrderUtil.isSorted(Collections.emptyList()));
+	}
+	
+	private static List<Bill> bills(int size) {
+		Random random = new Random(7);
+		List<Bill> bills = new ArrayList<>(size);
+		
+		for (int i = 0; i < size; i++) {
+			bills.add(new Bill(random.nextInt(12) + 1, 2000 + random.nextInt(30), 
+					COMPANIES.get(random.nextInt(COMPANIES.size())), "Fort Wayne", i));
+		}
+		
+		return bills;
+	}
+}
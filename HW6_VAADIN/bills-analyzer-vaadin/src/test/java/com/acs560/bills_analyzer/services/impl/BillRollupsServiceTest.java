@@ -0,0 +1,122 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.requests.CompanyRequest;
+import com.acs560.bills_analyzer.services.BillRollupsService;
+import com.acs560.bills_analyzer.services.CompaniesService;
+import com.acs560.bills_analyzer.services.BillsAnalysisService;
+import com.acs560.bills_analyzer.services.BillsService;
+
+@SpringBootTest
+public class BillRollupsServiceTest {
+
+	private static final Company TARGET = new Company(4, "Target");
+	
+	/** The May bills of Target in the seed data */
+	private static final double TARGET_MAY_AMOUNT = 2600.45;
+	
+	@Autowired
+	private BillRollupsService billRollupsService;
+	
+	@Autowired
+	private BillsService billsService;
+	
+	@Autowired
+	private BillsAnalysisService billsAnalysisService;
+	
+	@Autowired
+	private CompaniesService companiesService;
+	
+	@Autowired
+	private BillRollupsServiceImpl billRollupsServiceImpl;
+	
+	@Autowired
+	private JdbcTemplate jdbc;
+	
+	@Test
+	public void testRollupsAfterStartup_shouldBeConsistent() {
+		Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+	}
+	
+	@Test
+	public void testRollupsAfterWrites_shouldBeConsistent() {
+		final Bill bill = new Bill(5, 2098, TARGET, "Fort Wayne", 100.0);
+		
+		billsService.add(bill);
+		Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+		Assertions.assertEquals((TARGET_MAY_AMOUNT + 100.0) / 2, 
+				billsAnalysisService.calculateAverageForMonth(TARGET.getId(), 5), 0.01);
+		
+		billsService.update(new Bill(5, 2098, TARGET, "Fort Wayne", 300.0));
+		Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+		Assertions.assertEquals((TARGET_MAY_AMOUNT + 300.0) / 2, 
+				billsAnalysisService.calculateAverageForMonth(TARGET.getId(), 5), 0.01);
+		
+		billsService.delete(bill);
+		Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+		Assertions.assertEquals(TARGET_MAY_AMOUNT, 
+				billsAnalysisService.calculateAverageForMonth(TARGET.getId(), 5), 0.01);
+	}
+	
+	@Test
+	public void testConcurrentFirstBills_shouldUpsertRollup() throws Exception {
+		var company = companiesService.addCompany(new CompanyRequest("Upsert Rollup Co"));
+		List<Bill> bills = new ArrayList<>();
+		List<Callable<Bill>> adds = new ArrayList<>();
+		
+		for (int year = 2001; year <= 2008; year++) {
+			var bill = new Bill(3, year, company, "Fort Wayne", year - 2000);
+			bills.add(bill);
+			adds.add(() -> billsService.add(bill));
+		}
+		
+		var executor = Executors.newFixedThreadPool(adds.size());
+		
+		try {
+			for (Future<Bill> added : executor.invokeAll(adds)) {
+				added.get();
+			}
+			
+			Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+			Assertions.assertEquals(4.5, billsAnalysisService.calculateAverageForMonth(company.getId(), 3), 0.01);
+		} finally {
+			executor.shutdown();
+			billsService.deleteAll(bills);
+			companiesService.deleteCompany(company.getId());
+		}
+	}
+	
+	@Test
+	public void testRebuild_shouldBeConsistent() {
+		billRollupsService.rebuild();
+		Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+	}
+	
+	@Test
+	public void testRebuildIfEmpty_shouldOnlyBuildMissingRollups() {
+		try {
+			jdbc.update("UPDATE bill_monthly_rollups SET bill_count = bill_count + 1 WHERE company_id = ?", TARGET.getId());
+			billRollupsServiceImpl.rebuildIfEmpty();
+			Assertions.assertFalse(billRollupsService.findInconsistencies().isEmpty());
+			
+			jdbc.update("DELETE FROM bill_monthly_rollups");
+			billRollupsServiceImpl.rebuildIfEmpty();
+			Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+		} finally {
+			billRollupsService.rebuild();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BillStatisticsAccumulatorTest {
+
+	private static final double[] AMOUNTS = {4500.75, 3600.50, 2890.00, 4700.25, 5200.10, 0, -100.0};
+	
+	@Test
+	public void testStatistics_shouldReturnExactAggregates() {
+		var accumulator = new BillStatisticsAccumulator();
+		Arrays.stream(AMOUNTS).forEach(accumulator);
+		
+		var expectedMean = Arrays.stream(AMOUNTS).average().orElseThrow();
+		var expectedVariance = Arrays.stream(AMOUNTS)
+				.map(a -> (a - expectedMean) * (a - expectedMean)).sum() / AMOUNTS.length;
+		
+		var result = accumulator.toStatistics();
+		
+		Assertions.assertEquals(AMOUNTS.length, result.getCount());
+		Assertions.assertEquals(Arrays.stream(AMOUNTS).sum(), result.getSum(), 0.001);
+		Assertions.assertEquals(expectedMean, result.getMean(), 0.001);
+		Assertions.assertEquals(-100.0, result.getMin(), 0.001);
+		Assertions.assertEquals(5200.10, result.getMax(), 0.001);
+		Assertions.assertEquals(expectedVariance, result.getVariance(), 0.001);
+	}
+	
+	@Test
+	public void testMergedPartitions_shouldMatchSinglePass() {
+		var single = new BillStatisticsAccumulator();
+		var left = new BillStatisticsAccumulator();
+		var right = new BillStatisticsAccumulator();
+		
+		for (int i = 0; i < AMOUNTS.length; i++) {
+			single.accept(AMOUNTS[i]);
+			(i % 2 == 0 ? left : right).accept(AMOUNTS[i]);
+		}
+		
+		var expected = single.toStatistics();
+		var result = left.merge(right).toStatistics();
+		
+		Assertions.assertEquals(expected.getCount(), result.getCount());
+		Assertions.assertEquals(expected.getMean(), result.getMean(), 0.001);
+		Assertions.assertEquals(expected.getVariance(), result.getVariance(), 0.001);
+		Assertions.assertEquals(expected.getP50(), result.getP50(), 0.001);
+		Assertions.assertEquals(expected.getP99(), result.getP99(), 0.001);
+	}
+	
+	@Test
+	public void testPercentiles_shouldBeWithinRelativeAccuracy() {
+		var random = new Random(560);
+		double[] amounts = random.doubles(100_000, 1, 10_000).toArray();
+		
+		var accumulator = new BillStatisticsAccumulator();
+		Arrays.stream(amounts).forEach(accumulator);
+		Arrays.sort(amounts);
+		
+		for (double q : new double[] {0.50, 0.95, 0.99}) {
+			double expected = amounts[(int) Math.floor(q * (amounts.length - 1))];
+			double tolerance = expected * BillStatisticsAccumulator.RELATIVE_ACCURACY;
+			Assertions.assertEquals(expected, accumulator.percentile(q), tolerance);
+		}
+	}
+	
+	@Test
+	public void testEmptyStatistics_shouldThrowException() {
+		Assertions.assertThrows(NoSuchElementException.class, 
+				() -> new BillStatisticsAccumulator().toStatistics());
+	}
+}
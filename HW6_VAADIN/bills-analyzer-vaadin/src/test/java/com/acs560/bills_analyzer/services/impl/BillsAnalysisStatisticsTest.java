@@ -0,0 +1,57 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.acs560.bills_analyzer.services.BillsAnalysisService;
+
+@SpringBootTest
+public class BillsAnalysisStatisticsTest {
+
+	/** January and February bills of Amazon in 2020 and 2021 */
+	private static final List<Double> AMAZON_JAN_FEB = List.of(4500.75, 1900.75);
+	
+	/** January bills of all companies in 2020 */
+	private static final List<Double> JANUARY_2020 = List.of(4500.75, 3600.50, 2890.00);
+	
+	@Autowired
+	private BillsAnalysisService billsAnalysisService;
+	
+	@Test
+	public void testCalculateStatisticsForMonth_shouldReturnCorrectValues() {
+		var result = billsAnalysisService.calculateStatistics(1, 0, 2020, 2020);
+		
+		Assertions.assertEquals(JANUARY_2020.size(), result.getCount());
+		Assertions.assertEquals(JANUARY_2020.stream().mapToDouble(a -> a).sum(), result.getSum(), 0.01);
+		Assertions.assertEquals(2890.00, result.getMin(), 0.01);
+		Assertions.assertEquals(4500.75, result.getMax(), 0.01);
+		Assertions.assertEquals(3600.50, result.getP50(), 3600.50 * 0.01);
+	}
+	
+	@Test
+	public void testCalculateStatisticsForCompanyAndRange_shouldReturnCorrectValues() {
+		var result = billsAnalysisService.calculateStatistics(1, 1, 1, 2020, 2021);
+		
+		double expectedMean = AMAZON_JAN_FEB.stream().mapToDouble(a -> a).average().orElseThrow();
+		
+		Assertions.assertEquals(AMAZON_JAN_FEB.size(), result.getCount());
+		Assertions.assertEquals(expectedMean, result.getMean(), 0.01);
+	}
+	
+	@Test
+	public void testCalculateStatisticsForNonexistingYears_shouldThrowException() {
+		Assertions.assertThrows(NoSuchElementException.class, 
+				() -> billsAnalysisService.calculateStatistics(1, 1, 1990, 1999));
+	}
+	
+	@Test
+	public void testCalculateStatisticsForInvalidYears_shouldThrowException() {
+		Assertions.assertThrows(IllegalArgumentException.class, 
+				() -> billsAnalysisService.calculateStatistics(1, 1, 2021, 2020));
+	}
+}
@@ -0,0 +1,84 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.requests.BillSearchRequest;
+import com.acs560.bills_analyzer.requests.CompanyRequest;
+import com.acs560.bills_analyzer.services.BillsExportService;
+import com.acs560.bills_analyzer.services.BillsImportService;
+import com.acs560.bills_analyzer.services.BillsService;
+import com.acs560.bills_analyzer.services.CompaniesService;
+
+@SpringBootTest
+public class BillsExportServiceTest {
+
+	@Autowired
+	private BillsExportService billsExportService;
+	
+	@Autowired
+	private BillsImportService billsImportService;
+	
+	@Autowired
+	private BillsService billsService;
+	
+	@Autowired
+	private CompaniesService companiesService;
+	
+	/** A company of this test and its bills, as the seed companies are renamed by other tests of the context */
+	private Company company;
+	private List<Bill> bills;
+	
+	@BeforeEach
+	public void setUp() {
+		company = companiesService.addCompany(new CompanyRequest("Zenith Export Co"));
+		bills = List.of(new Bill(6, 2019, company, "Fort Wayne", 120), new Bill(7, 2019, company, "Fort Wayne", 130));
+		billsService.addAll(bills);
+	}
+	
+	@AfterEach
+	public void tearDown() {
+		billsService.deleteAll(bills);
+		companiesService.deleteCompany(company.getId());
+	}
+	
+	@Test
+	public void testExportWithoutCriteria_shouldWriteAllBillsInOrder() {
+		var bills = billsService.getBills();
+		var csv = new StringWriter();
+		
+		long exported = billsExportService.exportBills(new BillSearchRequest(), csv);
+		var lines = csv.toString().lines().toList();
+		
+		Assertions.assertEquals(bills.size(), exported);
+		Assertions.assertEquals(bills.size() + 1, lines.size());
+		Assertions.assertEquals("month,year,company,city,amount", lines.get(0));
+		
+		var first = bills.get(0);
+		Assertions.assertEquals(first.getMonth() + "," + first.getYear() + "," + first.getCompany().getName() 
+				+ "," + first.getCity() + "," + first.getAmount(), lines.get(1));
+	}
+	
+	@Test
+	public void testExportThenImport_shouldRejectEveryBillAsExisting() {
+		var csv = new StringWriter();
+		long exported = billsExportService.exportBills(
+				new BillSearchRequest(company.getName(), null, null, null, null, null), csv);
+		
+		var result = billsImportService.importBills(new StringReader(csv.toString()));
+		
+		Assertions.assertEquals(bills.size(), exported);
+		Assertions.assertEquals(0, result.getAccepted());
+		Assertions.assertEquals(exported, result.getRejected());
+	}
+}
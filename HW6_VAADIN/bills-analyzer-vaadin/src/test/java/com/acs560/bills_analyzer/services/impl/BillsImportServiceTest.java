@@ -0,0 +1,62 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.services.BillRollupsService;
+import com.acs560.bills_analyzer.services.BillsImportService;
+import com.acs560.bills_analyzer.services.BillsService;
+
+@SpringBootTest
+public class BillsImportServiceTest {
+
+	private static final Company IKEA = new Company(3, "IKEA");
+	
+	private static final String CSV = """
+			month,year,company,city,amount
+			6,2096,IKEA,Fort Wayne,120.50
+			7,2096,IKEA,"Fort Wayne, IN",130.25
+			7,2096,IKEA,Fort Wayne,140.00
+			1,2020,IKEA,Chicago,2890.00
+			13,2096,IKEA,Fort Wayne,10.00
+			8,2096,Nobody,Fort Wayne,10.00
+			9,2096,IKEA,X,10.00
+			abc,2096,IKEA,Fort Wayne,10.00
+			10,2096,IKEA
+			""";
+	
+	@Autowired
+	private BillsImportService billsImportService;
+	
+	@Autowired
+	private BillsService billsService;
+	
+	@Autowired
+	private BillRollupsService billRollupsService;
+	
+	@Test
+	public void testImportBills_shouldAcceptValidRowsAndRejectOthers() {
+		var result = billsImportService.importBills(new StringReader(CSV));
+		
+		try {
+			Assertions.assertEquals(2, result.getAccepted());
+			Assertions.assertEquals(7, result.getRejected());
+			Assertions.assertEquals(7, result.getRejections().size());
+			Assertions.assertTrue(result.getRejections().contains("Line 4: Bill already exists"), 
+					result.getRejections().toString());
+			
+			var bill = billsService.getBill(IKEA.getId(), 7, 2096);
+			Assertions.assertEquals("Fort Wayne, IN", bill.get().getCity());
+			Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+		} finally {
+			billsService.delete(new Bill(6, 2096, IKEA, "Fort Wayne", 120.50));
+			billsService.delete(new Bill(7, 2096, IKEA, "Fort Wayne", 130.25));
+		}
+	}
+}
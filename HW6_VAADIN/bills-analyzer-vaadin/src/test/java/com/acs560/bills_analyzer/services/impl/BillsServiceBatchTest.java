@@ -0,0 +1,63 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.BillOutcome;
+import com.acs560.bills_analyzer.models.BillOutcome.Status;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.services.BillRollupsService;
+import com.acs560.bills_analyzer.services.BillsService;
+
+@SpringBootTest
+public class BillsServiceBatchTest {
+
+	private static final Company WALMART = new Company(2, "Walmart");
+	
+	/** A bill of the seed data */
+	private static final Bill EXISTING = new Bill(1, 2020, WALMART, "Los Angeles", 3600.50);
+	
+	@Autowired
+	private BillsService billsService;
+	
+	@Autowired
+	private BillRollupsService billRollupsService;
+	
+	@Test
+	public void testBatchWrites_shouldReturnOutcomesInOrder() {
+		var first = new Bill(6, 2097, WALMART, "Fort Wayne", 100.0);
+		var second = new Bill(7, 2097, WALMART, "Fort Wayne", 200.0);
+		var missing = new Bill(8, 2097, WALMART, "Fort Wayne", 300.0);
+		
+		try {
+			var added = billsService.addAll(List.of(first, EXISTING, second, first));
+			Assertions.assertEquals(List.of(Status.APPLIED, Status.ALREADY_EXISTS, Status.APPLIED, Status.DUPLICATE), 
+					statuses(added));
+			Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+			
+			var updatedFirst = new Bill(6, 2097, WALMART, "Chicago", 150.0);
+			var updated = billsService.updateAll(List.of(updatedFirst, missing));
+			Assertions.assertEquals(List.of(Status.APPLIED, Status.NOT_FOUND), statuses(updated));
+			var bill = billsService.getBill(WALMART.getId(), 6, 2097).get();
+			Assertions.assertEquals("Chicago", bill.getCity());
+			Assertions.assertEquals(150.0, bill.getAmount());
+			Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+		} finally {
+			var deleted = billsService.deleteAll(List.of(first, second, missing));
+			Assertions.assertEquals(List.of(Status.APPLIED, Status.APPLIED, Status.NOT_FOUND), statuses(deleted));
+		}
+		
+		Assertions.assertTrue(billsService.getBill(WALMART.getId(), 6, 2097).isEmpty());
+		Assertions.assertTrue(billsService.getBill(WALMART.getId(), 1, 2020).isPresent());
+		Assertions.assertTrue(billRollupsService.findInconsistencies().isEmpty());
+	}
+	
+	private static List<Status> statuses(List<BillOutcome> outcomes) {
+		return outcomes.stream().map(BillOutcome::getStatus).toList();
+	}
+}
@@ -0,0 +1,80 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.MonthRange;
+import com.acs560.bills_analyzer.repositories.BillMonthlyRollupsRepository;
+import com.acs560.bills_analyzer.services.BillsService;
+
+@SpringBootTest
+public class BillsServiceMonthRangeTest {
+
+	private static final int AMAZON_ID = 1;
+	
+	@Autowired
+	private BillsService billsService;
+	
+	@Autowired
+	private BillMonthlyRollupsRepository billMonthlyRollupsRepository;
+	
+	@Test
+	public void testGetBillsByMonthAndRange_shouldMatchBillsInMonths() {
+		var bills = billsService.getBills();
+		
+		for (int month = 1; month <= 12; month++) {
+			for (int range = 0; range <= MonthRange.MAX_RANGE; range++) {
+				var months = MonthRange.of(month, range);
+				var expected = bills.stream()
+						.filter(b -> months.contains(b.getMonth()))
+						.sorted(Bill.ORDER)
+						.map(Bill::toString)
+						.toList();
+				int m = month, r = range;
+				
+				if (expected.isEmpty()) {
+					Assertions.assertThrows(NoSuchElementException.class, 
+							() -> billsService.getBillsByMonthAndRange(m, r), months.toString());
+				} else {
+					var actual = billsService.getBillsByMonthAndRange(m, r).stream()
+							.map(Bill::toString)
+							.toList();
+					
+					Assertions.assertEquals(expected, actual, months.toString());
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testGetBillsByCompanyMonthAndRange_shouldMatchBillsInMonths() {
+		var months = MonthRange.of(1, 2);
+		var expected = billsService.getBillsByCompany(AMAZON_ID).stream()
+				.filter(b -> months.contains(b.getMonth()))
+				.map(Bill::toString)
+				.toList();
+		var actual = billsService.getBills(AMAZON_ID, 1, 2).stream()
+				.map(Bill::toString)
+				.toList();
+		
+		Assertions.assertFalse(actual.isEmpty());
+		Assertions.assertEquals(expected, actual);
+	}
+	
+	@Test
+	public void testCalculateAverageWrappingYear_shouldMatchBillsInMonths() {
+		var months = MonthRange.of(12, 3);
+		var expected = billsService.getBills().stream()
+				.filter(b -> months.contains(b.getMonth()))
+				.mapToDouble(Bill::getAmount)
+				.average()
+				.orElseThrow();
+		
+		Assertions.assertEquals(expected, billMonthlyRollupsRepository.calculateAverage(months), 1e-9);
+	}
+}
@@ -0,0 +1,59 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.services.BillsService;
+
+@SpringBootTest
+public class BillsServicePagingTest {
+
+	@Autowired
+	private BillsService billsService;
+	
+	@Test
+	public void testGetFirstPage_shouldReturnPageSize() {
+		var result = billsService.getBills(PageRequest.of(0, 5));
+		Assertions.assertEquals(5, result.size());
+	}
+	
+	@Test
+	public void testGetPagePastEnd_shouldReturnEmpty() {
+		var result = billsService.getBills(PageRequest.of(10_000, 5));
+		Assertions.assertTrue(result.isEmpty());
+	}
+	
+	@Test
+	public void testGetUnsortedPages_shouldMatchBillOrder() {
+		List<Bill> paged = new ArrayList<>();
+		
+		for (int page = 0; ; page++) {
+			var result = billsService.getBills(PageRequest.of(page, 4));
+			if (result.isEmpty()) {
+				break;
+			}
+			paged.addAll(result);
+		}
+		
+		Assertions.assertEquals(billsService.getBills(), paged);
+	}
+	
+	@Test
+	public void testGetPageSortedByAmount_shouldBeDescending() {
+		var result = billsService.getBills(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "amount")));
+		
+		var expected = new ArrayList<>(result);
+		expected.sort(Comparator.comparingDouble(Bill::getAmount).reversed());
+		
+		Assertions.assertEquals(expected, result);
+	}
+}
@@ -0,0 +1,112 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.acs560.bills_analyzer.entities.CompanyEntity;
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.repositories.CompaniesRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the statements of the bill reads, which must not grow with the bills or companies read.
+ * Uses the service implementation, as the caching service would answer the repeated reads.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class BillsServiceQueryCountTest {
+
+	private static final int AMAZON_ID = 1;
+	
+	@Autowired
+	private BillsServiceImpl billsService;
+	
+	@Autowired
+	private CompaniesRepository companiesRepository;
+	
+	@Autowired
+	private EntityManagerFactory emf;
+	
+	private Statistics statistics;
+	
+	@BeforeEach
+	public void setUp() {
+		statistics = emf.unwrap(SessionFactory.class).getStatistics();
+	}
+	
+	@Test
+	public void testReadBills_shouldUseOneStatementWhateverTheRows() {
+		var before = countStatements();
+		
+		addBillsOfNewCompanies(20);
+		
+		Assertions.assertEquals(List.of(1L, 1L, 1L, 1L, 1L), before);
+		Assertions.assertEquals(before, countStatements());
+	}
+	
+	@Test
+	public void testReadBills_shouldNotLoadEntities() {
+		statistics.clear();
+		
+		billsService.getBills();
+		billsService.getBills(AMAZON_ID, 1, 2);
+		billsService.getBill(AMAZON_ID, 1, 2020);
+		
+		Assertions.assertEquals(0, statistics.getEntityLoadCount());
+	}
+	
+	@Test
+	public void testGetBill_shouldUseOneStatement() {
+		Assertions.assertEquals(1, countStatements(() -> billsService.getBill(AMAZON_ID, 1, 2020)));
+	}
+	
+	@Test
+	public void testUpdateAll_shouldNotLoadCompanies() {
+		var bills = billsService.getBillsByCompany(AMAZON_ID);
+		statistics.clear();
+		
+		billsService.updateAll(bills);
+		
+		Assertions.assertEquals(0, statistics.getEntityStatistics(CompanyEntity.class.getName()).getLoadCount());
+	}
+	
+	private List<Long> countStatements() {
+		return List.of(
+				countStatements(() -> billsService.getBills()),
+				countStatements(() -> billsService.getBillsByCompany(AMAZON_ID)),
+				countStatements(() -> billsService.getBills(AMAZON_ID, 1, 2)),
+				countStatements(() -> billsService.getBillsByMonthAndRange(1, 2)),
+				countStatements(() -> billsService.getBillsByMonth(1)));
+	}
+	
+	private long countStatements(Supplier<?> read) {
+		statistics.clear();
+		read.get();
+		return statistics.getPrepareStatementCount();
+	}
+	
+	/**
+	 * Add bills of January for new companies, and one for Amazon per new company
+	 */
+	private void addBillsOfNewCompanies(int companies) {
+		List<Bill> bills = new ArrayList<>();
+		
+		for (int i = 0; i < companies; i++) {
+			var company = new Company(companiesRepository.save(new CompanyEntity(null, "Query Count " + i)));
+			bills.add(new Bill(1, 2030 + i, company, "Chicago", 100.0 + i));
+			bills.add(new Bill(1, 2030 + i, new Company(AMAZON_ID, "Amazon"), "Chicago", 100.0 + i));
+		}
+		
+		billsService.addAll(bills);
+	}
+}
@@ -0,0 +1,85 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.requests.BillSearchRequest;
+import com.acs560.bills_analyzer.requests.CompanyRequest;
+import com.acs560.bills_analyzer.services.BillsService;
+import com.acs560.bills_analyzer.services.CompaniesService;
+
+@SpringBootTest
+public class BillsServiceSearchTest {
+
+	private static final PageRequest PAGE = PageRequest.of(0, 50);
+	
+	@Autowired
+	private BillsService billsService;
+	@Autowired
+	private CompaniesService companiesService;
+	
+	/** A company of this test and its bills, as the seed companies are renamed by other tests of the context */
+	private Company company;
+	private List<Bill> bills;
+	
+	@BeforeEach
+	public void setUp() {
+		company = companiesService.addCompany(new CompanyRequest("Zenith Search Co"));
+		bills = List.of(new Bill(6, 2019, company, "Fort Wayne", 120), new Bill(7, 2019, company, "Fort Wayne", 130));
+		billsService.addAll(bills);
+	}
+	
+	@AfterEach
+	public void tearDown() {
+		billsService.deleteAll(bills);
+		companiesService.deleteCompany(company.getId());
+	}
+	
+	@Test
+	public void testSearchWithoutCriteria_shouldReturnAllBills() {
+		var result = billsService.searchBills(new BillSearchRequest(), PAGE);
+		Assertions.assertEquals(billsService.getBills(), result);
+	}
+	
+	@Test
+	public void testSearchByCompanyPrefix_shouldReturnCompanyBills() {
+		var search = new BillSearchRequest("Zenith S", null, null, null, null, null);
+		var result = billsService.searchBills(search, PAGE);
+		
+		Assertions.assertEquals(2, result.size());
+		Assertions.assertTrue(result.stream().allMatch(b -> b.getCompany().equals(company)));
+	}
+	
+	@Test
+	public void testSearchByCityPrefix_shouldReturnMatchingCities() {
+		var search = new BillSearchRequest(null, "San", null, null, null, null);
+		var result = billsService.searchBills(search, PAGE);
+		
+		Assertions.assertFalse(result.isEmpty());
+		Assertions.assertTrue(result.stream().allMatch(b -> b.getCity().startsWith("San")));
+	}
+	
+	@Test
+	public void testSearchByMonthYearAndAmount_shouldReturnMatchingBills() {
+		var search = new BillSearchRequest(null, null, 1, 2020, 3000.0, 5000.0);
+		var result = billsService.searchBills(search, PAGE);
+		
+		Assertions.assertEquals(2, result.size());
+		Assertions.assertTrue(result.stream().allMatch(b -> b.getMonth() == 1 && b.getYear() == 2020));
+	}
+	
+	@Test
+	public void testSearchWithWildcardCharacters_shouldMatchLiterally() {
+		var search = new BillSearchRequest("%", null, null, null, null, null);
+		Assertions.assertTrue(billsService.searchBills(search, PAGE).isEmpty());
+	}
+}
@@ -0,0 +1,50 @@
+package com.acs560.bills_analyzer.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.services.CompaniesService;
+
+@SpringBootTest
+public class CompaniesServicePagingTest {
+
+	@Autowired
+	private CompaniesService companiesService;
+	
+	@Test
+	public void testGetByPrefix_shouldReturnMatchingCompaniesSortedByName() {
+		var result = companiesService.getCompanies("B", PageRequest.of(0, 50));
+		
+		Assertions.assertFalse(result.isEmpty());
+		Assertions.assertTrue(result.stream().allMatch(c -> c.getName().startsWith("B")));
+		Assertions.assertEquals(result.stream().sorted().toList(), result);
+	}
+	
+	@Test
+	public void testGetPages_shouldCoverAllCompaniesOnce() {
+		List<Company> paged = new ArrayList<>();
+		
+		for (int page = 0; ; page++) {
+			var result = companiesService.getCompanies("", PageRequest.of(page, 2));
+			if (result.isEmpty()) {
+				break;
+			}
+			paged.addAll(result);
+		}
+		
+		Assertions.assertEquals(companiesService.getCompanies().stream().sorted().toList(), paged);
+	}
+	
+	@Test
+	public void testGetByPrefixWithWildcard_shouldMatchLiterally() {
+		List<Company> result = companiesService.getCompanies("%", PageRequest.of(0, 50));
+		Assertions.assertTrue(result.isEmpty());
+	}
+}
@@ -0,0 +1,119 @@
+package com.acs560.bills_analyzer.views;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import com.vaadin.flow.component.UIDetachedException;
+
+public class BackgroundCallsTest {
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "bills-call-1"));
+	private final ExecutorService ui = Executors.newSingleThreadExecutor(r -> new Thread(r, "ui"));
+	private final BackgroundCalls backgroundCalls = new BackgroundCalls(executor, 10);
+	private final List<String> applied = new CopyOnWriteArrayList<>();
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+		ui.shutdownNow();
+		MDC.clear();
+	}
+
+	@Test
+	public void testCall_shouldCallInBackgroundAndApplyThroughAccess() throws Exception {
+		backgroundCalls.call(ui, () -> Thread.currentThread().getName(),
+				caller -> applied.add(caller + " " + Thread.currentThread().getName()),
+				e -> applied.add("error"))
+			.get(5, TimeUnit.SECONDS);
+		awaitApplied();
+
+		Assertions.assertEquals(List.of("bills-call-1 ui"), applied);
+	}
+
+	@Test
+	public void testCall_shouldApplyCauseOfFailure() throws Exception {
+		backgroundCalls.call(ui, () -> {
+			throw new IllegalArgumentException("Bill already exists");
+		}, result -> applied.add("result"), e -> applied.add(e.getClass().getSimpleName() + " " + e.getMessage()));
+		awaitApplied();
+
+		Assertions.assertEquals(List.of("IllegalArgumentException Bill already exists"), applied);
+	}
+
+	@Test
+	public void testCall_shouldKeepCallerMdc() throws Exception {
+		MDC.put("correlationId", "abc123");
+
+		String correlationId = backgroundCalls.call(ui, () -> MDC.get("correlationId"),
+				applied::add, e -> applied.add("error"))
+			.get(5, TimeUnit.SECONDS);
+
+		Assertions.assertEquals("abc123", correlationId);
+		Assertions.assertNull(executor.submit(() -> MDC.get("correlationId")).get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testCall_shouldDropResultOfDetachedUi() throws Exception {
+		var call = backgroundCalls.call(command -> {
+			throw new UIDetachedException();
+		}, () -> "result", applied::add, e -> applied.add("error"));
+
+		Assertions.assertEquals("result", call.get(5, TimeUnit.SECONDS));
+		Assertions.assertTrue(applied.isEmpty());
+	}
+
+	@Test
+	public void testCall_shouldBoundConcurrentCalls() throws Exception {
+		var unbounded = Executors.newCachedThreadPool();
+		var bounded = new BackgroundCalls(unbounded, 2);
+		var running = new AtomicInteger();
+		var peak = new AtomicInteger();
+		
+		try {
+			var calls = new ArrayList<CompletableFuture<Integer>>();
+			
+			for (int i = 0; i < 8; i++) {
+				calls.add(bounded.call(Runnable::run, () -> {
+					peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+					sleep(50);
+					return running.decrementAndGet();
+				}, result -> {}, e -> {}));
+			}
+			CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+			
+			Assertions.assertEquals(2, peak.get());
+		} finally {
+			unbounded.shutdownNow();
+		}
+	}
+	
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * Wait for the UI executor to run the applied result
+	 */
+	private void awaitApplied() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+
+		while (applied.isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.acs560.bills_analyzer.views;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.acs560.bills_analyzer.events.BillChangedEvent;
+import com.acs560.bills_analyzer.events.BillsBulkChangedEvent;
+import com.acs560.bills_analyzer.events.ChangeType;
+import com.acs560.bills_analyzer.events.CompanyChangedEvent;
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.views.ChangeBroadcaster.Changes;
+
+public class ChangeBroadcasterTest {
+
+	private static final Company AMAZON = new Company(1, "Amazon");
+	
+	private final ChangeBroadcaster broadcaster = new ChangeBroadcaster(Duration.ofMillis(50));
+	private final List<Changes> pushes = new CopyOnWriteArrayList<>();
+	
+	@AfterEach
+	public void tearDown() {
+		broadcaster.shutdown();
+	}
+	
+	@Test
+	public void testBroadcast_shouldCoalesceBurstIntoOnePush() throws InterruptedException {
+		broadcaster.register(Runnable::run, pushes::add);
+		
+		for (int month = 1; month <= 5; month++) {
+			broadcaster.onBillChanged(new BillChangedEvent(new Bill(month, 2020, AMAZON, "Fort Wayne", 10), 
+					ChangeType.UPDATED));
+		}
+		broadcaster.onCompanyChanged(new CompanyChangedEvent(AMAZON, ChangeType.UPDATED));
+		
+		awaitPushes(1);
+		
+		Assertions.assertEquals(1, pushes.size());
+		Assertions.assertEquals(5, pushes.get(0).getBills().size());
+		Assertions.assertEquals(1, pushes.get(0).getCompanies().size());
+		Assertions.assertFalse(pushes.get(0).isBulk());
+	}
+	
+	@Test
+	public void testBroadcast_shouldBoundChangesOfPush() throws InterruptedException {
+		broadcaster.register(Runnable::run, pushes::add);
+		
+		for (int i = 0; i <= ChangeBroadcaster.MAX_CHANGES; i++) {
+			broadcaster.onBillChanged(new BillChangedEvent(new Bill(1, 2000 + i, AMAZON, "Fort Wayne", 10), 
+					ChangeType.ADDED));
+		}
+		broadcaster.onBillsBulkChanged(new BillsBulkChangedEvent(ChangeType.ADDED, 
+				List.of(new Bill(1, 1999, AMAZON, "Fort Wayne", 10))));
+		
+		awaitPushes(1);
+		
+		Assertions.assertTrue(pushes.get(0).isBulk());
+		Assertions.assertTrue(pushes.get(0).getBills().isEmpty());
+	}
+	
+	@Test
+	public void testRegistration_shouldStopPushesWhenRemoved() throws InterruptedException {
+		var registration = broadcaster.register(Runnable::run, pushes::add);
+		registration.remove();
+		
+		broadcaster.onCompanyChanged(new CompanyChangedEvent(AMAZON, ChangeType.ADDED));
+		TimeUnit.MILLISECONDS.sleep(200);
+		
+		Assertions.assertTrue(pushes.isEmpty());
+		Assertions.assertTrue(broadcaster.getSubscribers().isEmpty());
+	}
+	
+	private void awaitPushes(int count) throws InterruptedException {
+		for (int i = 0; i < 100 && pushes.size() < count; i++) {
+			TimeUnit.MILLISECONDS.sleep(20);
+		}
+		// a later push would mean the burst was not coalesced
+		TimeUnit.MILLISECONDS.sleep(100);
+	}
+}
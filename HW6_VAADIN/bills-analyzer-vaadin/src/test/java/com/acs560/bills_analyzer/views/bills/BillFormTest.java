@@ -0,0 +1,79 @@
+package com.acs560.bills_analyzer.views.bills;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.acs560.bills_analyzer.models.Bill;
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.views.bills.BillForm.DeleteEvent;
+import com.acs560.bills_analyzer.views.bills.BillForm.UpdateEvent;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.textfield.TextField;
+
+public class BillFormTest {
+
+	private static final Company AMAZON = new Company(1, "Amazon");
+	private static final Bill BILL = new Bill(2, 2020, AMAZON, "Fort Wayne", 120);
+
+	private final BillForm form = new BillForm(query -> Stream.of(AMAZON));
+	private final List<Bill> fired = new ArrayList<>();
+
+	@Test
+	public void testUpdate_shouldNotChangeBillWhileEditing() {
+		form.addListener(UpdateEvent.class, e -> fired.add(e.getBill()));
+		form.update(BILL, false);
+
+		field("City").setValue("Chicago");
+
+		Assertions.assertEquals("Fort Wayne", BILL.getCity());
+		Assertions.assertTrue(fired.isEmpty());
+	}
+
+	@Test
+	public void testSave_shouldFireEditedCopy() {
+		form.addListener(UpdateEvent.class, e -> fired.add(e.getBill()));
+		form.update(BILL, false);
+
+		field("City").setValue("Chicago");
+		field("Amount").setValue("130.5");
+		button("Save").click();
+
+		Assertions.assertEquals(1, fired.size());
+		Assertions.assertNotSame(BILL, fired.get(0));
+		Assertions.assertEquals(BILL, fired.get(0));
+		Assertions.assertEquals("Chicago", fired.get(0).getCity());
+		Assertions.assertEquals(130.5, fired.get(0).getAmount());
+		Assertions.assertEquals("Fort Wayne", BILL.getCity());
+	}
+
+	@Test
+	public void testDelete_shouldFireEditedBill() {
+		form.addListener(DeleteEvent.class, e -> fired.add(e.getBill()));
+		form.update(BILL, false);
+
+		button("Delete").click();
+
+		Assertions.assertSame(BILL, fired.get(0));
+	}
+
+	private TextField field(String label) {
+		return form.getChildren()
+				.filter(c -> c instanceof TextField field && field.getLabel().equals(label))
+				.map(TextField.class::cast)
+				.findFirst().orElseThrow();
+	}
+
+	private Button button(String text) {
+		return form.getChildren()
+				.filter(HorizontalLayout.class::isInstance)
+				.flatMap(layout -> layout.getChildren())
+				.map(Button.class::cast)
+				.filter(b -> b.getText().equals(text))
+				.findFirst().orElseThrow();
+	}
+}
@@ -0,0 +1,60 @@
+package com.acs560.bills_analyzer.views.companies;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.acs560.bills_analyzer.models.Company;
+import com.acs560.bills_analyzer.views.companies.CompanyForm.UpdateEvent;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.textfield.TextField;
+
+public class CompanyFormTest {
+
+	private static final Company AMAZON = new Company(1, "Amazon");
+
+	private final CompanyForm form = new CompanyForm();
+	private final List<Company> updated = new ArrayList<>();
+
+	@Test
+	public void testUpdate_shouldNotChangeCompanyWhileEditing() {
+		form.addListener(UpdateEvent.class, e -> updated.add(e.getCompany()));
+		form.update(AMAZON, false);
+
+		nameField().setValue("Amazon Web Services");
+
+		Assertions.assertEquals("Amazon", AMAZON.getName());
+		Assertions.assertTrue(updated.isEmpty());
+	}
+
+	@Test
+	public void testSave_shouldFireEditedCopy() {
+		form.addListener(UpdateEvent.class, e -> updated.add(e.getCompany()));
+		form.update(AMAZON, false);
+
+		nameField().setValue("Amazon Web Services");
+		button("Save").click();
+
+		Assertions.assertEquals(List.of(new Company(1, "Amazon Web Services")), updated);
+		Assertions.assertEquals("Amazon", AMAZON.getName());
+	}
+
+	private TextField nameField() {
+		return form.getChildren()
+				.filter(c -> c instanceof TextField field && field.getLabel().equals("Name"))
+				.map(TextField.class::cast)
+				.findFirst().orElseThrow();
+	}
+
+	private Button button(String text) {
+		return form.getChildren()
+				.filter(HorizontalLayout.class::isInstance)
+				.flatMap(layout -> layout.getChildren())
+				.map(Button.class::cast)
+				.filter(b -> b.getText().equals(text))
+				.findFirst().orElseThrow();
+	}
+}
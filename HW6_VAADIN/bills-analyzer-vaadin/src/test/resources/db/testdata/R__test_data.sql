@@ -0,0 +1,38 @@
+-- The companies and bills the tests expect, the companies get the ids 1 to 5 in a new database.
+
+INSERT IGNORE INTO companies (name) VALUES
+    ('Amazon'),
+    ('Walmart'),
+    ('IKEA'),
+    ('Target'),
+    ('Best Buy');
+
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4500.75, 1, 2020, 1, 'New York');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3600.50, 1, 2020, 2, 'Los Angeles');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2890.00, 1, 2020, 3, 'Chicago');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4700.25, 1, 2021, 4, 'Houston');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (5200.10, 1, 2021, 5, 'Phoenix');
+
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (1900.75, 2, 2020, 1, 'San Diego');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2500.40, 2, 2020, 2, 'Dallas');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3500.90, 2, 2021, 3, 'San Francisco');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4200.15, 2, 2021, 4, 'Denver');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3100.65, 2, 2021, 5, 'Seattle');
+
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (5000.80, 3, 2020, 1, 'Miami');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3500.75, 3, 2020, 2, 'Atlanta');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2200.60, 3, 2020, 3, 'Boston');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4300.90, 3, 2021, 4, 'Austin');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2700.45, 3, 2021, 5, 'Las Vegas');
+
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4800.25, 4, 2020, 1, 'Charlotte');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2900.40, 4, 2020, 2, 'Philadelphia');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3800.55, 4, 2020, 3, 'San Antonio');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2500.75, 4, 2021, 4, 'Columbus');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4000.35, 4, 2021, 5, 'Indianapolis');
+
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (6000.50, 5, 2020, 1, 'San Jose');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3400.60, 5, 2020, 2, 'Fort Worth');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3900.30, 5, 2020, 3, 'Nashville');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2600.45, 5, 2021, 4, 'Detroit');
+INSERT IGNORE INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4500.95, 5, 2021, 5, 'Memphis');
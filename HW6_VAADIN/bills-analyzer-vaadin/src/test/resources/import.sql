@@ -1,34 +0,0 @@
-INSERT INTO companies (name) VALUES ('Amazon');
-INSERT INTO companies (name) VALUES ('Walmart');
-INSERT INTO companies (name) VALUES ('IKEA');
-INSERT INTO companies (name) VALUES ('Target');
-INSERT INTO companies (name) VALUES ('Best Buy');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4500.75, 1, 2020, 1, 'New York');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3600.50, 1, 2020, 2, 'Los Angeles');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2890.00, 1, 2020, 3, 'Chicago');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4700.25, 1, 2021, 4, 'Houston');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (5200.10, 1, 2021, 5, 'Phoenix');
-
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (1900.75, 2, 2020, 1, 'San Diego');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2500.40, 2, 2020, 2, 'Dallas');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3500.90, 2, 2021, 3, 'San Francisco');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4200.15, 2, 2021, 4, 'Denver');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3100.65, 2, 2021, 5, 'Seattle');
-
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (5000.80, 3, 2020, 1, 'Miami');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3500.75, 3, 2020, 2, 'Atlanta');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2200.60, 3, 2020, 3, 'Boston');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4300.90, 3, 2021, 4, 'Austin');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2700.45, 3, 2021, 5, 'Las Vegas');
-
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4800.25, 4, 2020, 1, 'Charlotte');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2900.40, 4, 2020, 2, 'Philadelphia');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3800.55, 4, 2020, 3, 'San Antonio');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2500.75, 4, 2021, 4, 'Columbus');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4000.35, 4, 2021, 5, 'Indianapolis');
-
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (6000.50, 5, 2020, 1, 'San Jose');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3400.60, 5, 2020, 2, 'Fort Worth');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (3900.30, 5, 2020, 3, 'Nashville');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (2600.45, 5, 2021, 4, 'Detroit');
-INSERT INTO bills (amount, billing_month, billing_year, company_id, city) VALUES (4500.95, 5, 2021, 5, 'Memphis');